@@ -0,0 +1,36 @@
+package com.doodle.controller;
+
+import com.doodle.dto.response.TokenResponse;
+import com.doodle.exception.ForbiddenException;
+import com.doodle.security.AuthenticatedUser;
+import com.doodle.security.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    public AuthController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Operation(summary = "Exchange HTTP Basic credentials for a short-lived access token")
+    @SecurityRequirement(name = "basicAuth")
+    @PostMapping("/token")
+    public TokenResponse issueToken(Authentication authentication, AuthenticatedUser user) {
+        // Tokens must not be able to mint new tokens, otherwise they never expire.
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken)) {
+            throw new ForbiddenException("Access tokens can only be issued for HTTP Basic credentials");
+        }
+        TokenService.IssuedToken token = tokenService.issue(user);
+        return new TokenResponse(token.value(), "Bearer", token.expiresAt());
+    }
+}
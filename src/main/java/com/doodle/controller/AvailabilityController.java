@@ -1,24 +1,50 @@
 package com.doodle.controller;
 
+import com.doodle.dto.request.BatchAvailabilityRequest;
+import com.doodle.dto.response.AvailabilityBitmapResponse;
 import com.doodle.dto.response.AvailabilityResponse;
+import com.doodle.dto.response.BatchAvailabilityResponse;
+import com.doodle.dto.response.CommonAvailabilityResponse;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.service.AvailabilityChangeStream;
 import com.doodle.service.AvailabilityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+@Validated
 @RestController
 @RequestMapping("/api/availability")
 public class AvailabilityController {
 
     private final AvailabilityService availabilityService;
+    private final AvailabilityChangeStream changeStream;
+    private final NdjsonWriter ndjsonWriter;
 
-    public AvailabilityController(AvailabilityService availabilityService) {
+    public AvailabilityController(
+            AvailabilityService availabilityService,
+            AvailabilityChangeStream changeStream,
+            NdjsonWriter ndjsonWriter
+    ) {
         this.availabilityService = availabilityService;
+        this.changeStream = changeStream;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @Operation(summary = "Get a user's availability windows in a range")
@@ -31,4 +57,59 @@ public class AvailabilityController {
     ) {
         return availabilityService.getAvailability(userId, from, to);
     }
+
+    @Operation(summary = "Stream a user's availability windows in a range as newline-delimited JSON")
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAvailability(
+            @RequestParam("userId") UUID userId,
+            @RequestParam("from") Instant from,
+            @RequestParam("to") Instant to,
+            HttpServletResponse response
+    ) {
+        availabilityService.streamAvailability(userId, from, to, ndjsonWriter.<SlotWindow>open(response));
+    }
+
+    @Operation(summary = "Get a user's availability as a 2-bit-per-15-minute free/busy bitmap")
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getAvailabilityBitmap(
+            @RequestParam("userId") UUID userId,
+            @RequestParam("from") Instant from,
+            @RequestParam("to") Instant to
+    ) {
+        AvailabilityBitmapResponse bitmap = availabilityService.getAvailabilityBitmap(userId, from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("X-Availability-From", bitmap.from().toString())
+                .header("X-Availability-To", bitmap.to().toString())
+                .header("X-Availability-Quantum-Minutes", Long.toString(bitmap.quantumMinutes()))
+                .body(bitmap.bitmap());
+    }
+
+    @Operation(summary = "Subscribe to committed slot changes of the given users as Server-Sent Events")
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam("userIds") Set<UUID> userIds) {
+        return changeStream.subscribe(userIds);
+    }
+
+    @Operation(summary = "Get windows where all given users are free for at least the given duration")
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping("/common")
+    public CommonAvailabilityResponse getCommonAvailability(
+            @RequestParam("userIds") Set<UUID> userIds,
+            @RequestParam("from") Instant from,
+            @RequestParam("to") Instant to,
+            @RequestParam(defaultValue = "15") @Min(1) int durationMinutes
+    ) {
+        return availabilityService.getCommonAvailability(userIds, from, to, Duration.ofMinutes(durationMinutes));
+    }
+
+    @Operation(summary = "Get availability windows for many users in one call")
+    @SecurityRequirement(name = "basicAuth")
+    @PostMapping("/batch")
+    public BatchAvailabilityResponse getBatchAvailability(@Valid @RequestBody BatchAvailabilityRequest request) {
+        return availabilityService.getBatchAvailability(request.userIds(), request.from(), request.to());
+    }
 }
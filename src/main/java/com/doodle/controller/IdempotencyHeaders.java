@@ -0,0 +1,10 @@
+package com.doodle.controller;
+
+final class IdempotencyHeaders {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private IdempotencyHeaders() {
+    }
+}
@@ -1,23 +1,32 @@
 package com.doodle.controller;
 
+import static com.doodle.controller.IdempotencyHeaders.IDEMPOTENCY_KEY;
+import static com.doodle.controller.IdempotencyHeaders.IDEMPOTENT_REPLAYED;
+
+import com.doodle.dto.request.BookFirstAvailableRequest;
 import com.doodle.dto.request.ScheduleMeetingRequest;
 import com.doodle.dto.request.UpdateMeetingRequest;
 import com.doodle.dto.response.MeetingResponse;
 import com.doodle.dto.response.PageResponse;
-import com.doodle.service.CurrentUserService;
+import com.doodle.security.AuthenticatedUser;
+import com.doodle.service.CalendarWriteGate;
+import com.doodle.service.ConflictCheck;
+import com.doodle.service.IdempotencyService;
+import com.doodle.service.KeysetPage;
 import com.doodle.service.MeetingService;
+import com.doodle.service.TotalsMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import java.time.Instant;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +34,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -36,66 +46,108 @@ import org.springframework.web.bind.annotation.RestController;
 public class MeetingController {
 
     private final MeetingService meetingService;
-    private final CurrentUserService currentUserService;
+    private final IdempotencyService idempotencyService;
+    private final CalendarWriteGate writeGate;
 
-    public MeetingController(MeetingService meetingService, CurrentUserService currentUserService) {
+    public MeetingController(
+            MeetingService meetingService,
+            IdempotencyService idempotencyService,
+            CalendarWriteGate writeGate
+    ) {
         this.meetingService = meetingService;
-        this.currentUserService = currentUserService;
+        this.idempotencyService = idempotencyService;
+        this.writeGate = writeGate;
     }
 
-    @Operation(summary = "Schedule a meeting on an owned slot")
+    @Operation(summary = "Schedule a meeting on an owned slot, optionally reporting or rejecting busy participants; " +
+            "a repeated Idempotency-Key replays the first response")
     @SecurityRequirement(name = "basicAuth")
     @PostMapping
     public ResponseEntity<MeetingResponse> scheduleMeeting(
-            Authentication authentication,
+            AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestParam(defaultValue = "none") @Pattern(regexp = "none|report|reject") String conflicts,
             @Valid @RequestBody ScheduleMeetingRequest request
     ) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        MeetingResponse response = meetingService.scheduleMeeting(userId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        ConflictCheck conflictCheck = ConflictCheck.fromParam(conflicts);
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(writeGate.write(user.id(),
+                    () -> meetingService.scheduleMeeting(user.id(), request, conflictCheck)));
+        }
+        IdempotencyService.Result<MeetingResponse> result = writeGate.write(user.id(), () -> idempotencyService.execute(
+                user.id(), idempotencyKey, "POST /api/meetings?conflicts=" + conflicts, request, MeetingResponse.class,
+                () -> meetingService.scheduleMeeting(user.id(), request, conflictCheck)));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, Boolean.toString(result.replayed()))
+                .body(result.body());
+    }
+
+    @Operation(summary = "Book my first whole free slot of at least minSlotMinutes in a range that every participant " +
+            "is free for")
+    @SecurityRequirement(name = "basicAuth")
+    @PostMapping("/first-available")
+    public ResponseEntity<MeetingResponse> bookFirstAvailable(
+            AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody BookFirstAvailableRequest request
+    ) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(writeGate.write(user.id(), () -> meetingService.bookFirstAvailable(user.id(), request)));
+        }
+        IdempotencyService.Result<MeetingResponse> result = writeGate.write(user.id(), () -> idempotencyService.execute(
+                user.id(), idempotencyKey, "POST /api/meetings/first-available", request, MeetingResponse.class,
+                () -> meetingService.bookFirstAvailable(user.id(), request)));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, Boolean.toString(result.replayed()))
+                .body(result.body());
     }
 
-    @Operation(summary = "List my meetings in a range")
+    @Operation(summary = "List my meetings in a range, by page number or by keyset cursor")
     @SecurityRequirement(name = "basicAuth")
     @GetMapping
     public PageResponse<MeetingResponse> getMeetings(
-            Authentication authentication,
+            AuthenticatedUser user,
             @RequestParam("from") Instant from,
             @RequestParam("to") Instant to,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "offset") @Pattern(regexp = "offset|keyset") String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "none") @Pattern(regexp = "none|estimate|exact") String totals
     ) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        Page<MeetingResponse> result = meetingService.getMeetings(userId, from, to, PageRequest.of(page, size));
+        if ("keyset".equals(paging) || cursor != null) {
+            KeysetPage<MeetingResponse> result = meetingService.getMeetingsAfter(user.id(), from, to, cursor, size);
+            return PageResponse.keyset(result.content(), size, result.nextCursor());
+        }
+        Slice<MeetingResponse> result = meetingService.getMeetings(
+                user.id(), from, to, PageRequest.of(page, size), TotalsMode.fromParam(totals));
         return PageResponse.from(result);
     }
 
     @Operation(summary = "Get a meeting by id")
     @SecurityRequirement(name = "basicAuth")
     @GetMapping("/{id}")
-    public MeetingResponse getMeeting(Authentication authentication, @PathVariable UUID id) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        return meetingService.getMeeting(userId, id);
+    public MeetingResponse getMeeting(AuthenticatedUser user, @PathVariable UUID id) {
+        return meetingService.getMeeting(user.id(), id);
     }
 
     @Operation(summary = "Update meeting details")
     @SecurityRequirement(name = "basicAuth")
     @PatchMapping("/{id}")
     public MeetingResponse updateMeeting(
-            Authentication authentication,
+            AuthenticatedUser user,
             @PathVariable UUID id,
             @Valid @RequestBody UpdateMeetingRequest request
     ) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        return meetingService.updateMeeting(userId, id, request);
+        return writeGate.write(user.id(), () -> meetingService.updateMeeting(user.id(), id, request));
     }
 
     @Operation(summary = "Cancel a meeting")
     @SecurityRequirement(name = "basicAuth")
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void cancelMeeting(Authentication authentication, @PathVariable UUID id) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        meetingService.cancelMeeting(userId, id);
+    public void cancelMeeting(AuthenticatedUser user, @PathVariable UUID id) {
+        writeGate.write(user.id(), () -> meetingService.cancelMeeting(user.id(), id));
     }
 }
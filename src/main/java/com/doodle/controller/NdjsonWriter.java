@@ -0,0 +1,42 @@
+package com.doodle.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+@Component
+class NdjsonWriter {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+
+    NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    <T> Consumer<T> open(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out;
+        try {
+            out = response.getOutputStream();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return item -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write(NEWLINE);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.doodle.controller;
+
+import com.doodle.dto.request.CreateSlotSeriesRequest;
+import com.doodle.dto.response.SlotSeriesResponse;
+import com.doodle.security.AuthenticatedUser;
+import com.doodle.service.SlotSeriesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/slot-series")
+public class SlotSeriesController {
+
+    private final SlotSeriesService seriesService;
+
+    public SlotSeriesController(SlotSeriesService seriesService) {
+        this.seriesService = seriesService;
+    }
+
+    @Operation(summary = "Create a recurring slot series")
+    @SecurityRequirement(name = "basicAuth")
+    @PostMapping
+    public ResponseEntity<SlotSeriesResponse> createSeries(
+            AuthenticatedUser user,
+            @Valid @RequestBody CreateSlotSeriesRequest request
+    ) {
+        SlotSeriesResponse response = seriesService.createSeries(user.id(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "List my recurring slot series")
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping
+    public List<SlotSeriesResponse> getSeries(AuthenticatedUser user) {
+        return seriesService.getSeries(user.id());
+    }
+
+    @Operation(summary = "Delete a recurring slot series; booked occurrences are kept")
+    @SecurityRequirement(name = "basicAuth")
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteSeries(AuthenticatedUser user, @PathVariable UUID id) {
+        seriesService.deleteSeries(user.id(), id);
+    }
+
+    @Operation(summary = "Remove a single occurrence from a series")
+    @SecurityRequirement(name = "basicAuth")
+    @DeleteMapping("/{id}/occurrences")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void skipOccurrence(
+            AuthenticatedUser user,
+            @PathVariable UUID id,
+            @RequestParam("startTime") Instant startTime
+    ) {
+        seriesService.skipOccurrence(user.id(), id, startTime);
+    }
+}
@@ -1,23 +1,37 @@
 package com.doodle.controller;
 
+import static com.doodle.controller.IdempotencyHeaders.IDEMPOTENCY_KEY;
+import static com.doodle.controller.IdempotencyHeaders.IDEMPOTENT_REPLAYED;
+
+import com.doodle.dto.request.BulkCreateSlotsRequest;
 import com.doodle.dto.request.CreateSlotRequest;
 import com.doodle.dto.request.UpdateSlotRequest;
+import com.doodle.dto.response.BulkCreateSlotsResponse;
 import com.doodle.dto.response.PageResponse;
+import com.doodle.dto.response.SlotHoldResponse;
 import com.doodle.dto.response.TimeSlotResponse;
-import com.doodle.service.CurrentUserService;
+import com.doodle.security.AuthenticatedUser;
+import com.doodle.service.CalendarWriteGate;
+import com.doodle.service.IdempotencyService;
+import com.doodle.service.KeysetPage;
+import com.doodle.service.SlotHoldService;
 import com.doodle.service.TimeSlotService;
+import com.doodle.service.TotalsMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +39,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -36,66 +51,130 @@ import org.springframework.web.bind.annotation.RestController;
 public class TimeSlotController {
 
     private final TimeSlotService timeSlotService;
-    private final CurrentUserService currentUserService;
+    private final SlotHoldService slotHoldService;
+    private final IdempotencyService idempotencyService;
+    private final CalendarWriteGate writeGate;
+    private final NdjsonWriter ndjsonWriter;
 
-    public TimeSlotController(TimeSlotService timeSlotService, CurrentUserService currentUserService) {
+    public TimeSlotController(
+            TimeSlotService timeSlotService,
+            SlotHoldService slotHoldService,
+            IdempotencyService idempotencyService,
+            CalendarWriteGate writeGate,
+            NdjsonWriter ndjsonWriter
+    ) {
         this.timeSlotService = timeSlotService;
-        this.currentUserService = currentUserService;
+        this.slotHoldService = slotHoldService;
+        this.idempotencyService = idempotencyService;
+        this.writeGate = writeGate;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
-    @Operation(summary = "Create a time slot")
+    @Operation(summary = "Create a time slot; a repeated Idempotency-Key replays the first response")
     @SecurityRequirement(name = "basicAuth")
     @PostMapping
     public ResponseEntity<TimeSlotResponse> createSlot(
-            Authentication authentication,
+            AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @Valid @RequestBody CreateSlotRequest request
     ) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        TimeSlotResponse response = timeSlotService.createSlot(userId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(timeSlotService.createSlot(user.id(), request));
+        }
+        IdempotencyService.Result<TimeSlotResponse> result = idempotencyService.execute(
+                user.id(), idempotencyKey, "POST /api/slots", request, TimeSlotResponse.class,
+                () -> timeSlotService.createSlot(user.id(), request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, Boolean.toString(result.replayed()))
+                .body(result.body());
+    }
+
+    @Operation(summary = "Create many time slots, or a weekly recurrence, in one transaction")
+    @SecurityRequirement(name = "basicAuth")
+    @PostMapping("/bulk")
+    public BulkCreateSlotsResponse createSlots(
+            AuthenticatedUser user,
+            @Valid @RequestBody BulkCreateSlotsRequest request
+    ) {
+        return timeSlotService.createSlots(user.id(), request);
     }
 
-    @Operation(summary = "List my time slots in a range")
+    @Operation(summary = "List my time slots in a range, by page number or by keyset cursor")
     @SecurityRequirement(name = "basicAuth")
     @GetMapping
     public PageResponse<TimeSlotResponse> getSlotsInRange(
-            Authentication authentication,
+            AuthenticatedUser user,
             @RequestParam("from") Instant from,
             @RequestParam("to") Instant to,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "offset") @Pattern(regexp = "offset|keyset") String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "none") @Pattern(regexp = "none|estimate|exact") String totals
     ) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        Page<TimeSlotResponse> result = timeSlotService.getSlotsInRange(userId, from, to, PageRequest.of(page, size));
+        if ("keyset".equals(paging) || cursor != null) {
+            KeysetPage<TimeSlotResponse> result = timeSlotService.getSlotsAfter(user.id(), from, to, cursor, size);
+            return PageResponse.keyset(result.content(), size, result.nextCursor());
+        }
+        Slice<TimeSlotResponse> result = timeSlotService.getSlotsInRange(
+                user.id(), from, to, PageRequest.of(page, size), TotalsMode.fromParam(totals));
         return PageResponse.from(result);
     }
 
+    @Operation(summary = "Stream my time slots in a range as newline-delimited JSON")
+    @SecurityRequirement(name = "basicAuth")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamSlotsInRange(
+            AuthenticatedUser user,
+            @RequestParam("from") Instant from,
+            @RequestParam("to") Instant to,
+            HttpServletResponse response
+    ) {
+        timeSlotService.streamSlotsInRange(user.id(), from, to, ndjsonWriter.<TimeSlotResponse>open(response));
+    }
+
     @Operation(summary = "Get a single time slot")
     @SecurityRequirement(name = "basicAuth")
     @GetMapping("/{id}")
-    public TimeSlotResponse getSlot(Authentication authentication, @PathVariable UUID id) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        return timeSlotService.getSlot(userId, id);
+    public TimeSlotResponse getSlot(AuthenticatedUser user, @PathVariable UUID id) {
+        return timeSlotService.getSlot(user.id(), id);
     }
 
     @Operation(summary = "Update a time slot")
     @SecurityRequirement(name = "basicAuth")
     @PatchMapping("/{id}")
     public TimeSlotResponse updateSlot(
-            Authentication authentication,
+            AuthenticatedUser user,
             @PathVariable UUID id,
             @Valid @RequestBody UpdateSlotRequest request
     ) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        return timeSlotService.updateSlot(userId, id, request);
+        return writeGate.write(user.id(), () -> timeSlotService.updateSlot(user.id(), id, request));
+    }
+
+    @Operation(summary = "Hold a free slot for a number of seconds; availability shows it as busy meanwhile")
+    @SecurityRequirement(name = "basicAuth")
+    @PostMapping("/{id}/hold")
+    public SlotHoldResponse holdSlot(
+            AuthenticatedUser user,
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "300") @Min(1) long seconds
+    ) {
+        return writeGate.write(user.id(), () -> slotHoldService.hold(user.id(), id, Duration.ofSeconds(seconds)));
+    }
+
+    @Operation(summary = "Release a hold before it expires, using the token returned by the hold")
+    @SecurityRequirement(name = "basicAuth")
+    @DeleteMapping("/{id}/hold")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void releaseHold(AuthenticatedUser user, @PathVariable UUID id, @RequestParam UUID token) {
+        writeGate.write(user.id(), () -> slotHoldService.release(user.id(), id, token));
     }
 
     @Operation(summary = "Delete a time slot")
     @SecurityRequirement(name = "basicAuth")
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteSlot(Authentication authentication, @PathVariable UUID id) {
-        UUID userId = currentUserService.resolveUserId(authentication.getName());
-        timeSlotService.deleteSlot(userId, id);
+    public void deleteSlot(AuthenticatedUser user, @PathVariable UUID id) {
+        writeGate.write(user.id(), () -> timeSlotService.deleteSlot(user.id(), id));
     }
 }
@@ -1,12 +1,12 @@
 package com.doodle.domain;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.Instant;
@@ -37,13 +37,10 @@ public class Meeting {
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-            name = "meeting_participants",
-            joinColumns = @JoinColumn(name = "meeting_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
-    )
-    private Set<User> participants = new HashSet<>();
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "meeting_participants", joinColumns = @JoinColumn(name = "meeting_id"))
+    @Column(name = "user_id", nullable = false)
+    private Set<UUID> participantIds = new HashSet<>();
 
     public Meeting() {
     }
@@ -96,12 +93,12 @@ public class Meeting {
         this.createdAt = createdAt;
     }
 
-    public Set<User> getParticipants() {
-        return participants;
+    public Set<UUID> getParticipantIds() {
+        return participantIds;
     }
 
-    public void setParticipants(Set<User> participants) {
-        this.participants = participants;
+    public void setParticipantIds(Set<UUID> participantIds) {
+        this.participantIds = participantIds;
     }
 
     @PrePersist
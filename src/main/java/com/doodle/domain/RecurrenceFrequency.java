@@ -0,0 +1,6 @@
+package com.doodle.domain;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY
+}
@@ -0,0 +1,38 @@
+package com.doodle.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "slot_series_exceptions")
+@IdClass(SlotSeriesException.Key.class)
+public class SlotSeriesException {
+
+    @Id
+    @Column(name = "series_id", nullable = false)
+    private UUID seriesId;
+
+    @Id
+    @Column(name = "occurrence_start", nullable = false)
+    private Instant occurrenceStart;
+
+    public SlotSeriesException() {
+    }
+
+    public UUID getSeriesId() {
+        return seriesId;
+    }
+
+    public Instant getOccurrenceStart() {
+        return occurrenceStart;
+    }
+
+    public record Key(UUID seriesId, Instant occurrenceStart) implements Serializable {
+    }
+}
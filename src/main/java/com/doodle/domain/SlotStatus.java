@@ -2,5 +2,6 @@ package com.doodle.domain;
 
 public enum SlotStatus {
     FREE,
-    BUSY
+    BUSY,
+    HOLD
 }
@@ -33,6 +33,12 @@ public class TimeSlot {
     @Column(nullable = false, length = 20)
     private SlotStatus status;
 
+    @Column(name = "hold_expires_at")
+    private Instant holdExpiresAt;
+
+    @Column(name = "hold_token")
+    private UUID holdToken;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -86,6 +92,22 @@ public class TimeSlot {
         this.status = status;
     }
 
+    public Instant getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+
+    public void setHoldExpiresAt(Instant holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    public UUID getHoldToken() {
+        return holdToken;
+    }
+
+    public void setHoldToken(UUID holdToken) {
+        this.holdToken = holdToken;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,56 @@
+package com.doodle.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Denormalized copy of a meeting's time for each attendee, so listings read one index range.
+ */
+@Entity
+@Table(name = "user_agenda")
+@IdClass(UserAgendaEntry.Key.class)
+public class UserAgendaEntry {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Id
+    @Column(name = "meeting_id", nullable = false)
+    private UUID meetingId;
+
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    public UserAgendaEntry() {
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public UUID getMeetingId() {
+        return meetingId;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public record Key(UUID userId, Instant startTime, UUID meetingId) implements Serializable {
+    }
+}
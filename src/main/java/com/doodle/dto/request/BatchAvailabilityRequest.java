@@ -0,0 +1,14 @@
+package com.doodle.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record BatchAvailabilityRequest(
+        @NotEmpty Set<@NotNull UUID> userIds,
+        @NotNull Instant from,
+        @NotNull Instant to
+) {
+}
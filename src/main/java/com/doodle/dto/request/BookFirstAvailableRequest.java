@@ -0,0 +1,29 @@
+package com.doodle.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record BookFirstAvailableRequest(
+        @NotBlank @Size(max = 255) String title,
+        String description,
+        Set<@NotNull UUID> participantIds,
+        @NotNull Instant from,
+        @NotNull Instant to,
+        @Min(15) @Max(1440) int minSlotMinutes
+) {
+
+    @AssertTrue(message = "to must be after from")
+    public boolean isValidRange() {
+        if (from == null || to == null) {
+            return true;
+        }
+        return to.isAfter(from);
+    }
+}
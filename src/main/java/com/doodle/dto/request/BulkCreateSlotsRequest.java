@@ -0,0 +1,17 @@
+package com.doodle.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record BulkCreateSlotsRequest(
+        List<@NotNull @Valid CreateSlotRequest> slots,
+        @Valid WeeklyRecurrenceRequest recurrence
+) {
+
+    @AssertTrue(message = "Either slots or recurrence must be provided")
+    public boolean isNotEmpty() {
+        return (slots != null && !slots.isEmpty()) || recurrence != null;
+    }
+}
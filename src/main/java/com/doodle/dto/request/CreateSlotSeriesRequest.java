@@ -0,0 +1,37 @@
+package com.doodle.dto.request;
+
+import com.doodle.domain.RecurrenceFrequency;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record CreateSlotSeriesRequest(
+        @NotNull RecurrenceFrequency frequency,
+        @Min(1) @Max(52) Integer interval,
+        Set<@NotNull DayOfWeek> daysOfWeek,
+        @NotNull LocalDate startDate,
+        @NotNull LocalDate untilDate,
+        @NotNull LocalTime startTime,
+        @NotNull @Min(15) @Max(1440) Integer durationMinutes,
+        String timeZone,
+        Set<@NotNull LocalDate> exceptDates
+) {
+
+    @AssertTrue(message = "untilDate must not be before startDate")
+    public boolean isValidDateRange() {
+        if (startDate == null || untilDate == null) {
+            return true;
+        }
+        return !untilDate.isBefore(startDate);
+    }
+
+    @AssertTrue(message = "daysOfWeek is required for WEEKLY series")
+    public boolean isDaysOfWeekPresent() {
+        return frequency != RecurrenceFrequency.WEEKLY || (daysOfWeek != null && !daysOfWeek.isEmpty());
+    }
+}
@@ -1,15 +1,35 @@
 package com.doodle.dto.request;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
 
 public record ScheduleMeetingRequest(
-        @NotNull UUID slotId,
+        UUID slotId,
         @NotBlank @Size(max = 255) String title,
         String description,
-        Set<UUID> participantIds
+        Set<UUID> participantIds,
+        UUID seriesId,
+        Instant occurrenceStart,
+        UUID holdToken
 ) {
+
+    public ScheduleMeetingRequest(UUID slotId, String title, String description, Set<UUID> participantIds) {
+        this(slotId, title, description, participantIds, null, null, null);
+    }
+
+    @AssertTrue(message = "Provide either slotId or seriesId with occurrenceStart")
+    public boolean isSlotReferenceValid() {
+        boolean occurrence = seriesId != null && occurrenceStart != null;
+        boolean partialOccurrence = (seriesId == null) != (occurrenceStart == null);
+        return !partialOccurrence && (slotId != null) != occurrence;
+    }
+
+    @AssertTrue(message = "holdToken only applies to a slotId")
+    public boolean isHoldTokenValid() {
+        return holdToken == null || slotId != null;
+    }
 }
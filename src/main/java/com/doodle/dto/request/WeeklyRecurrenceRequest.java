@@ -0,0 +1,36 @@
+package com.doodle.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record WeeklyRecurrenceRequest(
+        @NotNull LocalDate fromDate,
+        @NotNull LocalDate untilDate,
+        @NotEmpty Set<@NotNull DayOfWeek> daysOfWeek,
+        @NotNull LocalTime startTime,
+        @NotNull LocalTime endTime,
+        String timeZone
+) {
+
+    @AssertTrue(message = "untilDate must not be before fromDate")
+    public boolean isValidDateRange() {
+        if (fromDate == null || untilDate == null) {
+            return true;
+        }
+        return !untilDate.isBefore(fromDate);
+    }
+
+    @AssertTrue(message = "Slot must be at least 15 minutes")
+    public boolean isMinDuration() {
+        if (startTime == null || endTime == null) {
+            return true;
+        }
+        return Duration.between(startTime, endTime).toMinutes() >= 15;
+    }
+}
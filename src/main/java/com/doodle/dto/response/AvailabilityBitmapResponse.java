@@ -0,0 +1,13 @@
+package com.doodle.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AvailabilityBitmapResponse(
+        UUID userId,
+        Instant from,
+        Instant to,
+        long quantumMinutes,
+        byte[] bitmap
+) {
+}
@@ -0,0 +1,12 @@
+package com.doodle.dto.response;
+
+import com.doodle.event.SlotChangedEvent;
+import java.util.UUID;
+
+public record AvailabilityChangeResponse(
+        UUID userId,
+        UUID slotId,
+        SlotChangedEvent.Type change,
+        SlotWindow window
+) {
+}
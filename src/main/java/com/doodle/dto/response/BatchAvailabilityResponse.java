@@ -0,0 +1,11 @@
+package com.doodle.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record BatchAvailabilityResponse(
+        Instant from,
+        Instant to,
+        List<AvailabilityResponse> users
+) {
+}
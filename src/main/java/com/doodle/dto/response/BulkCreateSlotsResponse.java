@@ -0,0 +1,9 @@
+package com.doodle.dto.response;
+
+import java.util.List;
+
+public record BulkCreateSlotsResponse(
+        List<TimeSlotResponse> created,
+        List<SlotConflictResponse> conflicts
+) {
+}
@@ -0,0 +1,15 @@
+package com.doodle.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record CommonAvailabilityResponse(
+        Set<UUID> userIds,
+        Instant from,
+        Instant to,
+        long durationMinutes,
+        List<SlotWindow> windows
+) {
+}
@@ -1,5 +1,6 @@
 package com.doodle.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
@@ -11,6 +12,24 @@ public record MeetingResponse(
         String title,
         String description,
         Instant createdAt,
-        Set<UUID> participantIds
+        Set<UUID> participantIds,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Set<UUID> conflictingParticipantIds
 ) {
+
+    public MeetingResponse(
+            UUID id,
+            UUID slotId,
+            UUID organizerId,
+            String title,
+            String description,
+            Instant createdAt,
+            Set<UUID> participantIds
+    ) {
+        this(id, slotId, organizerId, title, description, createdAt, participantIds, null);
+    }
+
+    public MeetingResponse withConflicts(Set<UUID> conflictingParticipantIds) {
+        return new MeetingResponse(
+                id, slotId, organizerId, title, description, createdAt, participantIds, conflictingParticipantIds);
+    }
 }
@@ -1,23 +1,37 @@
 package com.doodle.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
-        int page,
+        Integer page,
         int size,
-        long totalElements,
-        int totalPages
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext,
+        String nextCursor
 ) {
 
-    public static <T> PageResponse<T> from(Page<T> page) {
-        return new PageResponse<>(
-                page.getContent(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
+    public static <T> PageResponse<T> from(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return new PageResponse<>(
+                    page.getContent(),
+                    page.getNumber(),
+                    page.getSize(),
+                    page.getTotalElements(),
+                    page.getTotalPages(),
+                    page.hasNext(),
+                    null
+            );
+        }
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), null, null, slice.hasNext(), null);
+    }
+
+    public static <T> PageResponse<T> keyset(List<T> content, int size, String nextCursor) {
+        return new PageResponse<>(content, null, size, null, null, nextCursor != null, nextCursor);
     }
 }
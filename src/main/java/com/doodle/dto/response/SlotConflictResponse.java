@@ -0,0 +1,11 @@
+package com.doodle.dto.response;
+
+import java.time.Instant;
+
+public record SlotConflictResponse(
+        int index,
+        Instant startTime,
+        Instant endTime,
+        String reason
+) {
+}
@@ -0,0 +1,11 @@
+package com.doodle.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SlotHoldResponse(
+        UUID slotId,
+        UUID holdToken,
+        Instant expiresAt
+) {
+}
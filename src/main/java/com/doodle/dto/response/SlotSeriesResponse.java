@@ -0,0 +1,24 @@
+package com.doodle.dto.response;
+
+import com.doodle.domain.RecurrenceFrequency;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record SlotSeriesResponse(
+        UUID id,
+        UUID calendarId,
+        RecurrenceFrequency frequency,
+        int interval,
+        Set<DayOfWeek> daysOfWeek,
+        LocalDate startDate,
+        LocalDate untilDate,
+        LocalTime startTime,
+        int durationMinutes,
+        String timeZone,
+        Instant createdAt
+) {
+}
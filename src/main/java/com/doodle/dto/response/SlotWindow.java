@@ -8,4 +8,11 @@ public record SlotWindow(
         Instant endTime,
         SlotStatus status
 ) {
+
+    // Availability only tells free from taken, so a held slot reads as busy.
+    public SlotWindow {
+        if (status == SlotStatus.HOLD) {
+            status = SlotStatus.BUSY;
+        }
+    }
 }
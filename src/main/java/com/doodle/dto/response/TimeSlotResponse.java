@@ -1,6 +1,7 @@
 package com.doodle.dto.response;
 
 import com.doodle.domain.SlotStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -11,6 +12,19 @@ public record TimeSlotResponse(
         Instant endTime,
         SlotStatus status,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) UUID seriesId
 ) {
+
+    public TimeSlotResponse(
+            UUID id,
+            UUID calendarId,
+            Instant startTime,
+            Instant endTime,
+            SlotStatus status,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        this(id, calendarId, startTime, endTime, status, createdAt, updatedAt, null);
+    }
 }
@@ -0,0 +1,10 @@
+package com.doodle.dto.response;
+
+import java.time.Instant;
+
+public record TokenResponse(
+        String accessToken,
+        String tokenType,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.doodle.event;
+
+import java.util.UUID;
+
+public record MeetingChangedEvent(
+        Type type,
+        UUID meetingId,
+        UUID calendarId,
+        UUID slotId,
+        UUID organizerId
+) {
+
+    public enum Type {
+        SCHEDULED,
+        UPDATED,
+        CANCELLED
+    }
+}
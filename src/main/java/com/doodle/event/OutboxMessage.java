@@ -0,0 +1,13 @@
+package com.doodle.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OutboxMessage(
+        long id,
+        UUID calendarId,
+        String eventType,
+        String payload,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.doodle.event;
+
+import java.util.List;
+
+/**
+ * Receives relayed outbox messages. Messages of one calendar arrive in the order they were written.
+ * Throwing leaves the whole batch in the outbox for the next run, so a sink sees messages at least once.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxMessage> messages);
+}
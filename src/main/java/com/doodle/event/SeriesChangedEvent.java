@@ -0,0 +1,20 @@
+package com.doodle.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Series occurrences are not rows, so a change covers the whole [from, to) stretch the series can touch.
+public record SeriesChangedEvent(
+        Type type,
+        UUID calendarId,
+        UUID seriesId,
+        Instant from,
+        Instant to
+) {
+
+    public enum Type {
+        CREATED,
+        DELETED,
+        OCCURRENCE_SKIPPED
+    }
+}
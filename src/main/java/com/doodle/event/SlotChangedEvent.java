@@ -0,0 +1,40 @@
+package com.doodle.event;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.domain.TimeSlot;
+import java.time.Instant;
+import java.util.UUID;
+
+public record SlotChangedEvent(
+        Type type,
+        UUID calendarId,
+        UUID slotId,
+        Instant startTime,
+        Instant endTime,
+        SlotStatus status
+) {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    public static SlotChangedEvent saved(TimeSlot slot) {
+        return of(Type.SAVED, slot);
+    }
+
+    public static SlotChangedEvent deleted(TimeSlot slot) {
+        return of(Type.DELETED, slot);
+    }
+
+    private static SlotChangedEvent of(Type type, TimeSlot slot) {
+        return new SlotChangedEvent(
+                type,
+                slot.getCalendarId(),
+                slot.getId(),
+                slot.getStartTime(),
+                slot.getEndTime(),
+                slot.getStatus()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.doodle.mapper;
+
+import com.doodle.domain.SlotSeries;
+import com.doodle.dto.response.SlotSeriesResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlotSeriesMapper {
+
+    public SlotSeriesResponse toResponse(SlotSeries series) {
+        return new SlotSeriesResponse(
+                series.getId(),
+                series.getCalendarId(),
+                series.getFrequency(),
+                series.getRepeatInterval(),
+                series.getDaysOfWeek(),
+                series.getStartDate(),
+                series.getUntilDate(),
+                series.getStartTime(),
+                series.getDurationMinutes(),
+                series.getTimeZone(),
+                series.getCreatedAt()
+        );
+    }
+}
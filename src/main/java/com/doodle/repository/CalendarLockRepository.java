@@ -0,0 +1,25 @@
+package com.doodle.repository;
+
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CalendarLockRepository {
+
+    private static final RowCallbackHandler IGNORE = rs -> { };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CalendarLockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Held until the surrounding transaction ends. The key folds the UUID to 64 bits, so two calendars can
+    // share a lock; that only costs some extra waiting.
+    public void lockForTransaction(UUID calendarId) {
+        long key = calendarId.getMostSignificantBits() ^ calendarId.getLeastSignificantBits();
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", IGNORE, key);
+    }
+}
@@ -1,6 +1,8 @@
 package com.doodle.repository;
 
 import com.doodle.domain.Calendar;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,4 +10,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface CalendarRepository extends JpaRepository<Calendar, UUID> {
 
     Optional<Calendar> findByUserId(UUID userId);
+
+    List<Calendar> findByUserIdIn(Collection<UUID> userIds);
 }
@@ -0,0 +1,40 @@
+package com.doodle.repository;
+
+import com.doodle.domain.IdempotencyRecord;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    // Blocks while another transaction holds the same key; an expired row is taken over.
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, created_at, expires_at) " +
+            "VALUES (:userId, :key, :requestHash, now(), :expiresAt) " +
+            "ON CONFLICT (user_id, idempotency_key) DO UPDATE " +
+            "SET request_hash = EXCLUDED.request_hash, response_body = NULL, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_keys.expires_at <= now()", nativeQuery = true)
+    int claim(
+            @Param("userId") UUID userId,
+            @Param("key") String key,
+            @Param("requestHash") String requestHash,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET response_body = :responseBody " +
+            "WHERE user_id = :userId AND idempotency_key = :key", nativeQuery = true)
+    int complete(
+            @Param("userId") UUID userId,
+            @Param("key") String key,
+            @Param("responseBody") String responseBody
+    );
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,26 @@
+package com.doodle.repository;
+
+import com.doodle.repository.projection.BookedSlot;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MeetingBookingRepository {
+
+    /**
+     * Flips a free slot on the calendar to busy and inserts the meeting, its participants and
+     * their {@code user_agenda} rows in one statement. A held slot is booked only when {@code holdToken} matches.
+     * Empty when the slot is missing, on another calendar, busy, or held under another token. Unknown participant ids are skipped
+     * and left out of {@link BookedSlot#participantIds()}.
+     */
+    Optional<BookedSlot> bookFreeSlot(
+            UUID meetingId,
+            UUID slotId,
+            UUID calendarId,
+            UUID holdToken,
+            UUID organizerId,
+            String title,
+            String description,
+            Collection<UUID> participantIds
+    );
+}
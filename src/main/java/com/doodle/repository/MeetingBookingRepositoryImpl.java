@@ -0,0 +1,95 @@
+package com.doodle.repository;
+
+import com.doodle.repository.projection.BookedSlot;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class MeetingBookingRepositoryImpl implements MeetingBookingRepository {
+
+    // Writable CTEs share one snapshot, so a second booking of the same slot blocks on the
+    // row lock and then matches nothing once the first commits. A held slot only books with its token
+    // until the hold expires, even if the expiry timer has not freed it yet.
+    private static final String BOOK_SQL = "WITH flipped AS (" +
+            "   UPDATE time_slots SET status = 'BUSY', hold_expires_at = NULL, hold_token = NULL, " +
+            "       version = version + 1, updated_at = now() " +
+            "   WHERE id = ? AND calendar_id = ? " +
+            "   AND (status = 'FREE' OR (status = 'HOLD' " +
+            "       AND (hold_token = CAST(? AS uuid) OR hold_expires_at <= now()))) " +
+            "   RETURNING id, calendar_id, start_time, end_time" +
+            "), meeting AS (" +
+            "   INSERT INTO meetings (id, slot_id, organizer_id, title, description, created_at) " +
+            "   SELECT ?, id, ?, ?, ?, now() FROM flipped " +
+            "   RETURNING id, created_at" +
+            "), participants AS (" +
+            "   INSERT INTO meeting_participants (meeting_id, user_id) " +
+            "   SELECT meeting.id, u.id FROM meeting CROSS JOIN users u WHERE u.id = ANY (?) " +
+            "   RETURNING user_id" +
+            "), agenda AS (" +
+            "   INSERT INTO user_agenda (user_id, start_time, meeting_id, end_time) " +
+            "   SELECT a.user_id, f.start_time, m.id, f.end_time " +
+            "   FROM flipped f CROSS JOIN meeting m " +
+            "   CROSS JOIN (SELECT CAST(? AS uuid) AS user_id UNION SELECT user_id FROM participants) a" +
+            ") " +
+            "SELECT f.calendar_id, f.start_time, f.end_time, m.created_at, " +
+            "   ARRAY(SELECT user_id FROM participants) AS participant_ids " +
+            "FROM flipped f CROSS JOIN meeting m";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    MeetingBookingRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<BookedSlot> bookFreeSlot(
+            UUID meetingId,
+            UUID slotId,
+            UUID calendarId,
+            UUID holdToken,
+            UUID organizerId,
+            String title,
+            String description,
+            Collection<UUID> participantIds
+    ) {
+        List<BookedSlot> rows = jdbcTemplate.query(BOOK_SQL, ps -> {
+            ps.setObject(1, slotId);
+            ps.setObject(2, calendarId);
+            ps.setObject(3, holdToken);
+            ps.setObject(4, meetingId);
+            ps.setObject(5, organizerId);
+            ps.setString(6, title);
+            ps.setString(7, description);
+            ps.setArray(8, ps.getConnection().createArrayOf("uuid", participantIds.toArray()));
+            ps.setObject(9, organizerId);
+        }, (rs, rowNum) -> new BookedSlot(
+                rs.getObject("calendar_id", UUID.class),
+                instant(rs, "start_time"),
+                instant(rs, "end_time"),
+                instant(rs, "created_at"),
+                uuids(rs.getArray("participant_ids"))
+        ));
+        return rows.stream().findFirst();
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, OffsetDateTime.class).toInstant();
+    }
+
+    private static Set<UUID> uuids(Array array) throws SQLException {
+        Set<UUID> ids = new HashSet<>();
+        for (Object id : (Object[]) array.getArray()) {
+            ids.add((UUID) id);
+        }
+        return ids;
+    }
+}
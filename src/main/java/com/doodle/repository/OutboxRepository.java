@@ -0,0 +1,63 @@
+package com.doodle.repository;
+
+import com.doodle.event.OutboxMessage;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void append(UUID calendarId, String eventType, String payload) {
+        jdbcTemplate.update("INSERT INTO outbox_events (calendar_id, event_type, payload) VALUES (?, ?, ?)",
+                calendarId, eventType, payload);
+    }
+
+    // Rows locked by another relay are skipped rather than waited on.
+    public List<OutboxMessage> lockOldest(int limit) {
+        return jdbcTemplate.query("SELECT id, calendar_id, event_type, payload, created_at FROM outbox_events " +
+                        "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getLong("id"),
+                        rs.getObject("calendar_id", UUID.class),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getObject("created_at", OffsetDateTime.class).toInstant()
+                ), limit);
+    }
+
+    // Per calendar, the oldest pending id outside the given ids; those rows belong to another relay.
+    public Map<UUID, Long> findOldestOtherIds(Collection<UUID> calendarIds, Collection<Long> ids) {
+        Map<UUID, Long> oldest = new HashMap<>();
+        jdbcTemplate.query("SELECT calendar_id, MIN(id) AS id FROM outbox_events " +
+                        "WHERE calendar_id = ANY (?) AND NOT (id = ANY (?)) GROUP BY calendar_id",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("uuid", calendarIds.toArray()));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+                },
+                rs -> {
+                    oldest.put(rs.getObject("calendar_id", UUID.class), rs.getLong("id"));
+                });
+        return oldest;
+    }
+
+    public int delete(Collection<Long> ids) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("DELETE FROM outbox_events WHERE id = ANY (?)");
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.doodle.repository;
+
+import com.doodle.repository.projection.ReleasedHold;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SlotHoldRepository {
+
+    /**
+     * Turns the given slots back to FREE if they are still held and their hold ended by {@code now}.
+     * Slots booked or released in the meantime are left alone.
+     */
+    List<ReleasedHold> releaseExpiredHolds(Collection<UUID> slotIds, Instant now);
+
+    /**
+     * Releases up to {@code limit} expired holds, oldest first, through {@code idx_slots_hold_expires}.
+     * Rows another sweeper has locked are skipped.
+     */
+    List<ReleasedHold> releaseExpiredHolds(Instant now, int limit);
+}
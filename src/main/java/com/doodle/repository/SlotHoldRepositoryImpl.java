@@ -0,0 +1,58 @@
+package com.doodle.repository;
+
+import com.doodle.repository.projection.ReleasedHold;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class SlotHoldRepositoryImpl implements SlotHoldRepository {
+
+    private static final String RELEASE = "UPDATE time_slots " +
+            "SET status = 'FREE', hold_expires_at = NULL, hold_token = NULL, version = version + 1, updated_at = now() ";
+    private static final String RETURNING = " RETURNING id, calendar_id, start_time, end_time";
+
+    private static final String RELEASE_BY_ID_SQL = RELEASE +
+            "WHERE id = ANY (?) AND status = 'HOLD' AND hold_expires_at <= ?" + RETURNING;
+
+    private static final String RELEASE_OLDEST_SQL = RELEASE +
+            "WHERE id IN (SELECT id FROM time_slots " +
+            "   WHERE status = 'HOLD' AND hold_expires_at <= ? " +
+            "   ORDER BY hold_expires_at LIMIT ? FOR UPDATE SKIP LOCKED)" + RETURNING;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SlotHoldRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ReleasedHold> releaseExpiredHolds(Collection<UUID> slotIds, Instant now) {
+        return jdbcTemplate.query(RELEASE_BY_ID_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", slotIds.toArray()));
+            ps.setObject(2, OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
+        }, (rs, rowNum) -> released(rs));
+    }
+
+    @Override
+    public List<ReleasedHold> releaseExpiredHolds(Instant now, int limit) {
+        return jdbcTemplate.query(RELEASE_OLDEST_SQL, ps -> {
+            ps.setObject(1, OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
+            ps.setInt(2, limit);
+        }, (rs, rowNum) -> released(rs));
+    }
+
+    private static ReleasedHold released(ResultSet rs) throws SQLException {
+        return new ReleasedHold(
+                rs.getObject("id", UUID.class),
+                rs.getObject("calendar_id", UUID.class),
+                rs.getObject("start_time", OffsetDateTime.class).toInstant(),
+                rs.getObject("end_time", OffsetDateTime.class).toInstant()
+        );
+    }
+}
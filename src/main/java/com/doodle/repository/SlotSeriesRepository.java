@@ -0,0 +1,45 @@
+package com.doodle.repository;
+
+import com.doodle.domain.SlotSeries;
+import com.doodle.domain.SlotSeriesException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SlotSeriesRepository extends JpaRepository<SlotSeries, UUID> {
+
+    List<SlotSeries> findByCalendarIdOrderByStartDate(UUID calendarId);
+
+    boolean existsByCalendarId(UUID calendarId);
+
+    @Query("SELECT s FROM SlotSeries s " +
+            "WHERE s.calendarId IN :calendarIds " +
+            "AND s.startDate <= :toDate " +
+            "AND s.untilDate >= :fromDate")
+    List<SlotSeries> findActiveInRange(
+            @Param("calendarIds") Collection<UUID> calendarIds,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+
+    @Query("SELECT e FROM SlotSeriesException e " +
+            "WHERE e.seriesId IN :seriesIds " +
+            "AND e.occurrenceStart >= :startTime " +
+            "AND e.occurrenceStart < :endTime")
+    List<SlotSeriesException> findExceptionsInRange(
+            @Param("seriesIds") Collection<UUID> seriesIds,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO slot_series_exceptions (series_id, occurrence_start) " +
+            "VALUES (:seriesId, :occurrenceStart) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addException(@Param("seriesId") UUID seriesId, @Param("occurrenceStart") Instant occurrenceStart);
+}
@@ -2,39 +2,134 @@ package com.doodle.repository;
 
 import com.doodle.domain.SlotStatus;
 import com.doodle.domain.TimeSlot;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.dto.response.TimeSlotResponse;
+import com.doodle.repository.projection.CalendarSlotWindow;
+import com.doodle.repository.projection.SlotInterval;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID> {
+public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID>, SlotHoldRepository {
 
-    @Query("SELECT ts FROM TimeSlot ts " +
+    int STREAM_FETCH_SIZE = 500;
+
+    @Query(value = "SELECT new com.doodle.dto.response.TimeSlotResponse(" +
+            "ts.id, ts.calendarId, ts.startTime, ts.endTime, ts.status, ts.createdAt, ts.updatedAt) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId = :calendarId " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "ORDER BY ts.startTime",
+            countQuery = "SELECT COUNT(ts) FROM TimeSlot ts " +
+                    "WHERE ts.calendarId = :calendarId " +
+                    "AND ts.startTime < :endTime " +
+                    "AND ts.endTime > :startTime")
+    Page<TimeSlotResponse> findResponsesByCalendarAndRange(
+            @Param("calendarId") UUID calendarId,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.doodle.dto.response.TimeSlotResponse(" +
+            "ts.id, ts.calendarId, ts.startTime, ts.endTime, ts.status, ts.createdAt, ts.updatedAt) " +
+            "FROM TimeSlot ts " +
             "WHERE ts.calendarId = :calendarId " +
             "AND ts.startTime < :endTime " +
             "AND ts.endTime > :startTime " +
             "ORDER BY ts.startTime")
-    Page<TimeSlot> findByCalendarAndRange(
+    Slice<TimeSlotResponse> findResponseSliceByCalendarAndRange(
             @Param("calendarId") UUID calendarId,
             @Param("startTime") Instant startTime,
             @Param("endTime") Instant endTime,
             Pageable pageable
     );
 
-    @Query("SELECT COUNT(ts) > 0 FROM TimeSlot ts " +
+    @Query("SELECT new com.doodle.dto.response.TimeSlotResponse(" +
+            "ts.id, ts.calendarId, ts.startTime, ts.endTime, ts.status, ts.createdAt, ts.updatedAt) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId = :calendarId " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "ORDER BY ts.startTime, ts.id")
+    List<TimeSlotResponse> findFirstResponsesByCalendarAndRange(
+            @Param("calendarId") UUID calendarId,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime,
+            Limit limit
+    );
+
+    // The redundant afterStart bound keeps the seek on the (calendar_id, start_time) index.
+    @Query("SELECT new com.doodle.dto.response.TimeSlotResponse(" +
+            "ts.id, ts.calendarId, ts.startTime, ts.endTime, ts.status, ts.createdAt, ts.updatedAt) " +
+            "FROM TimeSlot ts " +
             "WHERE ts.calendarId = :calendarId " +
-            "AND (:excludeId IS NULL OR ts.id != :excludeId) " +
             "AND ts.startTime < :endTime " +
-            "AND ts.endTime > :startTime")
-    boolean existsOverlapping(
+            "AND ts.endTime > :startTime " +
+            "AND ts.startTime >= :afterStart " +
+            "AND (ts.startTime > :afterStart OR ts.id > :afterId) " +
+            "ORDER BY ts.startTime, ts.id")
+    List<TimeSlotResponse> findResponsesByCalendarAndRangeAfter(
             @Param("calendarId") UUID calendarId,
             @Param("startTime") Instant startTime,
             @Param("endTime") Instant endTime,
-            @Param("excludeId") UUID excludeId
+            @Param("afterStart") Instant afterStart,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    @Query("SELECT new com.doodle.dto.response.SlotWindow(ts.startTime, ts.endTime, ts.status) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId = :calendarId " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "ORDER BY ts.startTime")
+    List<SlotWindow> findWindowsByCalendarAndRange(
+            @Param("calendarId") UUID calendarId,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime
+    );
+
+    // Organizer's FREE slots of at least minSlotSeconds, in start order, skipping any that overlap a BUSY or held
+    // slot or meeting of an attendee anywhere in the slot. Slots are booked whole, so the whole slot must be clear.
+    @Query(value = "SELECT ts.id FROM time_slots ts " +
+            "WHERE ts.calendar_id = :calendarId " +
+            "AND ts.status = 'FREE' " +
+            "AND ts.start_time >= :from " +
+            "AND ts.start_time < :to " +
+            "AND ts.end_time - ts.start_time >= make_interval(secs => :minSlotSeconds) " +
+            "AND NOT EXISTS (SELECT 1 FROM calendars c " +
+            "JOIN time_slots busy ON busy.calendar_id = c.id " +
+            "WHERE c.user_id IN (:userIds) " +
+            "AND busy.status IN ('BUSY', 'HOLD') " +
+            "AND busy.start_time < ts.end_time " +
+            "AND busy.end_time > ts.start_time) " +
+            "AND NOT EXISTS (SELECT 1 FROM user_agenda a " +
+            "WHERE a.user_id IN (:userIds) " +
+            "AND a.start_time < ts.end_time " +
+            "AND a.end_time > ts.start_time) " +
+            "ORDER BY ts.start_time " +
+            "LIMIT :maxResults", nativeQuery = true)
+    List<UUID> findFreeSlotIdsClearFor(
+            @Param("calendarId") UUID calendarId,
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("minSlotSeconds") long minSlotSeconds,
+            @Param("maxResults") int maxResults
     );
 
     @Query("SELECT ts FROM TimeSlot ts " +
@@ -49,4 +144,65 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID> {
             @Param("endTime") Instant endTime,
             @Param("status") SlotStatus status
     );
+
+    @Query("SELECT new com.doodle.repository.projection.CalendarSlotWindow(" +
+            "ts.calendarId, ts.startTime, ts.endTime, ts.status) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId IN :calendarIds " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "ORDER BY ts.calendarId, ts.startTime")
+    List<CalendarSlotWindow> findWindowsByCalendarsAndRange(
+            @Param("calendarIds") Collection<UUID> calendarIds,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime
+    );
+
+    @Query("SELECT new com.doodle.repository.projection.CalendarSlotWindow(" +
+            "ts.calendarId, ts.startTime, ts.endTime, ts.status) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId IN :calendarIds " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "AND ts.status = :status " +
+            "ORDER BY ts.calendarId, ts.startTime")
+    List<CalendarSlotWindow> findWindowsByCalendarsRangeAndStatus(
+            @Param("calendarIds") Collection<UUID> calendarIds,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime,
+            @Param("status") SlotStatus status
+    );
+
+    @Query("SELECT new com.doodle.repository.projection.SlotInterval(ts.id, ts.startTime, ts.endTime, ts.status) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId = :calendarId " +
+            "ORDER BY ts.startTime")
+    List<SlotInterval> findIntervalsByCalendarId(@Param("calendarId") UUID calendarId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("SELECT new com.doodle.dto.response.SlotWindow(ts.startTime, ts.endTime, ts.status) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId = :calendarId " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "ORDER BY ts.startTime")
+    Stream<SlotWindow> streamWindowsByCalendarAndRange(
+            @Param("calendarId") UUID calendarId,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("SELECT new com.doodle.dto.response.TimeSlotResponse(" +
+            "ts.id, ts.calendarId, ts.startTime, ts.endTime, ts.status, ts.createdAt, ts.updatedAt) " +
+            "FROM TimeSlot ts " +
+            "WHERE ts.calendarId = :calendarId " +
+            "AND ts.startTime < :endTime " +
+            "AND ts.endTime > :startTime " +
+            "ORDER BY ts.startTime")
+    Stream<TimeSlotResponse> streamByCalendarAndRange(
+            @Param("calendarId") UUID calendarId,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime
+    );
 }
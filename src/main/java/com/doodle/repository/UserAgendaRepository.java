@@ -0,0 +1,123 @@
+package com.doodle.repository;
+
+import com.doodle.domain.UserAgendaEntry;
+import com.doodle.repository.projection.MeetingSeekKey;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserAgendaRepository extends JpaRepository<UserAgendaEntry, UserAgendaEntry.Key> {
+
+    @Query(value = "SELECT new com.doodle.repository.projection.MeetingSeekKey(a.meetingId, a.startTime) " +
+            "FROM UserAgendaEntry a " +
+            "WHERE a.userId = :userId " +
+            "AND a.startTime < :to " +
+            "AND a.endTime > :from " +
+            "ORDER BY a.startTime, a.meetingId",
+            countQuery = "SELECT COUNT(a) FROM UserAgendaEntry a " +
+                    "WHERE a.userId = :userId " +
+                    "AND a.startTime < :to " +
+                    "AND a.endTime > :from")
+    Page<MeetingSeekKey> findPageInRange(
+            @Param("userId") UUID userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.doodle.repository.projection.MeetingSeekKey(a.meetingId, a.startTime) " +
+            "FROM UserAgendaEntry a " +
+            "WHERE a.userId = :userId " +
+            "AND a.startTime < :to " +
+            "AND a.endTime > :from " +
+            "ORDER BY a.startTime, a.meetingId")
+    Slice<MeetingSeekKey> findSliceInRange(
+            @Param("userId") UUID userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.doodle.repository.projection.MeetingSeekKey(a.meetingId, a.startTime) " +
+            "FROM UserAgendaEntry a " +
+            "WHERE a.userId = :userId " +
+            "AND a.startTime < :to " +
+            "AND a.endTime > :from " +
+            "ORDER BY a.startTime, a.meetingId")
+    List<MeetingSeekKey> findFirstInRange(
+            @Param("userId") UUID userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            Limit limit
+    );
+
+    @Query("SELECT new com.doodle.repository.projection.MeetingSeekKey(a.meetingId, a.startTime) " +
+            "FROM UserAgendaEntry a " +
+            "WHERE a.userId = :userId " +
+            "AND a.startTime < :to " +
+            "AND a.endTime > :from " +
+            "AND a.startTime >= :afterStart " +
+            "AND (a.startTime > :afterStart OR a.meetingId > :afterId) " +
+            "ORDER BY a.startTime, a.meetingId")
+    List<MeetingSeekKey> findInRangeAfter(
+            @Param("userId") UUID userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("afterStart") Instant afterStart,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    // One statement for any number of users: their own BUSY or held slots through idx_slots_calendar_range,
+    // plus meetings they attend elsewhere through the agenda key.
+    @Query(value = "SELECT c.user_id FROM calendars c " +
+            "JOIN time_slots ts ON ts.calendar_id = c.id " +
+            "WHERE c.user_id IN (:userIds) " +
+            "AND ts.status IN ('BUSY', 'HOLD') " +
+            "AND ts.start_time < :endTime " +
+            "AND ts.end_time > :startTime " +
+            "UNION " +
+            "SELECT a.user_id FROM user_agenda a " +
+            "WHERE a.user_id IN (:userIds) " +
+            "AND a.meeting_id <> :meetingId " +
+            "AND a.start_time < :endTime " +
+            "AND a.end_time > :startTime", nativeQuery = true)
+    List<UUID> findBusyUsers(
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime,
+            @Param("meetingId") UUID meetingId
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO user_agenda (user_id, start_time, meeting_id, end_time) " +
+            "SELECT u.id, ts.start_time, m.id, ts.end_time " +
+            "FROM meetings m " +
+            "JOIN time_slots ts ON ts.id = m.slot_id " +
+            "JOIN users u ON u.id IN (:userIds) " +
+            "WHERE m.id = :meetingId " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addAttendees(@Param("meetingId") UUID meetingId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("DELETE FROM UserAgendaEntry a WHERE a.meetingId = :meetingId AND a.userId NOT IN :userIds")
+    int removeAttendeesExcept(@Param("meetingId") UUID meetingId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query(value = "UPDATE user_agenda SET start_time = :startTime, end_time = :endTime " +
+            "WHERE meeting_id IN (SELECT id FROM meetings WHERE slot_id = :slotId)", nativeQuery = true)
+    int moveSlot(
+            @Param("slotId") UUID slotId,
+            @Param("startTime") Instant startTime,
+            @Param("endTime") Instant endTime
+    );
+}
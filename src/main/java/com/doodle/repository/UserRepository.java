@@ -1,13 +1,27 @@
 package com.doodle.repository;
 
 import com.doodle.domain.User;
+import com.doodle.repository.projection.UserCredentials;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.doodle.repository.projection.UserCredentials(u.id, c.id, u.email, u.passwordHash) " +
+            "FROM User u " +
+            "LEFT JOIN Calendar c ON c.userId = u.id " +
+            "WHERE u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
 }
@@ -0,0 +1,14 @@
+package com.doodle.repository.projection;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record BookedSlot(
+        UUID calendarId,
+        Instant startTime,
+        Instant endTime,
+        Instant meetingCreatedAt,
+        Set<UUID> participantIds
+) {
+}
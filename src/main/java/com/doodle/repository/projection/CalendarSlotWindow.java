@@ -0,0 +1,18 @@
+package com.doodle.repository.projection;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.SlotWindow;
+import java.time.Instant;
+import java.util.UUID;
+
+public record CalendarSlotWindow(
+        UUID calendarId,
+        Instant startTime,
+        Instant endTime,
+        SlotStatus status
+) {
+
+    public SlotWindow toWindow() {
+        return new SlotWindow(startTime, endTime, status);
+    }
+}
@@ -0,0 +1,10 @@
+package com.doodle.repository.projection;
+
+import java.util.UUID;
+
+public interface MeetingParticipantRow {
+
+    UUID getMeetingId();
+
+    UUID getUserId();
+}
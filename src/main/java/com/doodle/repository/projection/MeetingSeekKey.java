@@ -0,0 +1,7 @@
+package com.doodle.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record MeetingSeekKey(UUID meetingId, Instant startTime) {
+}
@@ -0,0 +1,12 @@
+package com.doodle.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ReleasedHold(
+        UUID slotId,
+        UUID calendarId,
+        Instant startTime,
+        Instant endTime
+) {
+}
@@ -0,0 +1,13 @@
+package com.doodle.repository.projection;
+
+import com.doodle.domain.SlotStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+public record SlotInterval(
+        UUID id,
+        Instant startTime,
+        Instant endTime,
+        SlotStatus status
+) {
+}
@@ -0,0 +1,11 @@
+package com.doodle.repository.projection;
+
+import java.util.UUID;
+
+public record UserCredentials(
+        UUID userId,
+        UUID calendarId,
+        String email,
+        String passwordHash
+) {
+}
@@ -0,0 +1,102 @@
+package com.doodle.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TokenService {
+
+    private static final String VERSION = "v1";
+    private static final String NO_CALENDAR = "-";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(
+            @Value("${doodle.security.token.secret}") String secret,
+            @Value("${doodle.security.token.ttl:PT15M}") Duration ttl
+    ) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration ttl, Clock clock) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            throw new IllegalStateException("doodle.security.token.secret must be at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public IssuedToken issue(AuthenticatedUser user) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        String payload = String.join("\n",
+                VERSION,
+                user.email(),
+                user.id().toString(),
+                user.calendarId() == null ? NO_CALENDAR : user.calendarId().toString(),
+                Long.toString(expiresAt.getEpochSecond())
+        );
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        String signature = ENCODER.encodeToString(sign(encodedPayload));
+        return new IssuedToken(encodedPayload + "." + signature, expiresAt);
+    }
+
+    public Optional<AuthenticatedUser> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\n");
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                return Optional.empty();
+            }
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[4]));
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            UUID calendarId = NO_CALENDAR.equals(parts[3]) ? null : UUID.fromString(parts[3]);
+            return Optional.of(new AuthenticatedUser(UUID.fromString(parts[2]), calendarId, parts[1], null));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to sign access token", ex);
+        }
+    }
+
+    public record IssuedToken(String value, Instant expiresAt) {
+    }
+}
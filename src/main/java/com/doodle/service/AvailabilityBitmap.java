@@ -0,0 +1,70 @@
+package com.doodle.service;
+
+import com.doodle.domain.SlotStatus;
+import java.time.Duration;
+import java.time.Instant;
+
+// Two bits per quantum, four quanta per byte, most significant bits first.
+// 00 = no slot, 01 = free, 10 = busy. Busy covers every quantum it touches; free only the quanta it
+// covers entirely, so a quantum reported free is free from end to end. Busy wins when both apply.
+final class AvailabilityBitmap {
+
+    static final Duration QUANTUM = Duration.ofMinutes(15);
+    static final int UNSET = 0;
+    static final int FREE = 1;
+    static final int BUSY = 2;
+
+    private static final long QUANTUM_SECONDS = QUANTUM.toSeconds();
+
+    private final long originSeconds;
+    private final int quanta;
+    private final byte[] bits;
+
+    AvailabilityBitmap(Instant from, Instant to) {
+        this.originSeconds = from.getEpochSecond();
+        this.quanta = Math.toIntExact((to.getEpochSecond() - originSeconds) / QUANTUM_SECONDS);
+        this.bits = new byte[(quanta + 3) / 4];
+    }
+
+    static Instant floor(Instant instant) {
+        return Instant.ofEpochSecond(Math.floorDiv(instant.getEpochSecond(), QUANTUM_SECONDS) * QUANTUM_SECONDS);
+    }
+
+    static Instant ceil(Instant instant) {
+        Instant floor = floor(instant);
+        return floor.equals(instant) ? floor : floor.plus(QUANTUM);
+    }
+
+    void mark(Instant start, Instant end, SlotStatus status) {
+        int code = status == SlotStatus.FREE ? FREE : BUSY;
+        long startOffset = start.getEpochSecond() - originSeconds;
+        long endOffset = end.getEpochSecond() - originSeconds;
+        long firstQuantum = code == FREE
+                ? Math.ceilDiv(startOffset, QUANTUM_SECONDS)
+                : Math.floorDiv(startOffset, QUANTUM_SECONDS);
+        long lastQuantum = code == FREE
+                ? Math.floorDiv(endOffset, QUANTUM_SECONDS)
+                : Math.ceilDiv(endOffset, QUANTUM_SECONDS);
+        int first = (int) Math.max(0, firstQuantum);
+        int last = (int) Math.min(quanta, Math.max(0, lastQuantum));
+
+        for (int i = first; i < last; i++) {
+            if (code > get(i)) {
+                int shift = 6 - 2 * (i & 3);
+                bits[i >> 2] = (byte) ((bits[i >> 2] & ~(0b11 << shift)) | (code << shift));
+            }
+        }
+    }
+
+    int get(int quantum) {
+        return (bits[quantum >> 2] >> (6 - 2 * (quantum & 3))) & 0b11;
+    }
+
+    int quanta() {
+        return quanta;
+    }
+
+    byte[] toByteArray() {
+        return bits.clone();
+    }
+}
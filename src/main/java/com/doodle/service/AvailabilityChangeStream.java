@@ -0,0 +1,264 @@
+package com.doodle.service;
+
+import com.doodle.dto.response.AvailabilityChangeResponse;
+import com.doodle.dto.response.AvailabilityRefreshResponse;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.event.SeriesChangedEvent;
+import com.doodle.event.SlotChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed slot changes to Server-Sent Event subscribers. Series changes have no single window,
+ * so they go out as a refresh of the affected range. Publishing only enqueues; each
+ * subscriber is written by its own virtual thread, so one slow client never delays the others. A
+ * subscriber whose queue fills up is disconnected and is expected to reload and subscribe again.
+ * A periodic comment goes out on every stream, so a client that vanished fails the write and is
+ * unregistered instead of lingering until the timeout.
+ */
+@Component
+public class AvailabilityChangeStream {
+
+    private final UserDirectoryCache userDirectory;
+    private final Executor writers;
+    private final int queueSize;
+    private final int maxUsers;
+    private final Duration timeout;
+    private final Map<UUID, Set<Subscription>> subscriptionsByCalendar = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+
+    @Autowired
+    public AvailabilityChangeStream(
+            UserDirectoryCache userDirectory,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.availability.stream.queue-size:256}") int queueSize,
+            @Value("${doodle.availability.stream.max-users:200}") int maxUsers,
+            @Value("${doodle.availability.stream.timeout:PT30M}") Duration timeout
+    ) {
+        this(userDirectory, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(), queueSize, maxUsers, timeout);
+    }
+
+    AvailabilityChangeStream(
+            UserDirectoryCache userDirectory,
+            MeterRegistry meterRegistry,
+            Executor writers,
+            int queueSize,
+            int maxUsers,
+            Duration timeout
+    ) {
+        this.userDirectory = userDirectory;
+        this.writers = writers;
+        this.queueSize = queueSize;
+        this.maxUsers = maxUsers;
+        this.timeout = timeout;
+        this.dropped = meterRegistry.counter("doodle.availability.stream.dropped");
+        Gauge.builder("doodle.availability.stream.subscribers", subscriptions, Set::size)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Set<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("userIds must not be empty");
+        }
+        if (userIds.size() > maxUsers) {
+            throw new IllegalArgumentException("At most " + maxUsers + " users can be watched per stream");
+        }
+        Map<UUID, UUID> calendarIds = userDirectory.requireCalendarIds(userIds);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = register(calendarIds, new EmitterSink(emitter));
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(ex -> unregister(subscription));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onSlotChanged(SlotChangedEvent event) {
+        Set<Subscription> watching = subscriptionsByCalendar.get(event.calendarId());
+        if (watching == null) {
+            return;
+        }
+        for (Subscription subscription : watching) {
+            subscription.offer(event);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSeriesChanged(SeriesChangedEvent event) {
+        Set<Subscription> watching = subscriptionsByCalendar.get(event.calendarId());
+        if (watching == null) {
+            return;
+        }
+        for (Subscription subscription : watching) {
+            subscription.offer(event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${doodle.availability.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.heartbeat();
+        }
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    Subscription register(Map<UUID, UUID> calendarIdsByUser, Sink sink) {
+        Map<UUID, UUID> usersByCalendar = new ConcurrentHashMap<>();
+        calendarIdsByUser.forEach((userId, calendarId) -> usersByCalendar.put(calendarId, userId));
+        Subscription subscription = new Subscription(usersByCalendar, sink);
+        for (UUID calendarId : usersByCalendar.keySet()) {
+            subscriptionsByCalendar.computeIfAbsent(calendarId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        }
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    private void unregister(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (UUID calendarId : subscription.usersByCalendar.keySet()) {
+            subscriptionsByCalendar.computeIfPresent(calendarId, (id, watching) -> {
+                watching.remove(subscription);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+        subscriptions.remove(subscription);
+        subscription.sink.close();
+    }
+
+    interface Sink {
+
+        void send(AvailabilityChangeResponse change) throws IOException;
+
+        void refresh(AvailabilityRefreshResponse refresh) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    final class Subscription {
+
+        private final Map<UUID, UUID> usersByCalendar;
+        private final Sink sink;
+        private final BlockingQueue<Delivery> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(Map<UUID, UUID> usersByCalendar, Sink sink) {
+            this.usersByCalendar = usersByCalendar;
+            this.sink = sink;
+        }
+
+        private void offer(SlotChangedEvent event) {
+            AvailabilityChangeResponse change = new AvailabilityChangeResponse(
+                    usersByCalendar.get(event.calendarId()),
+                    event.slotId(),
+                    event.type(),
+                    new SlotWindow(event.startTime(), event.endTime(), event.status())
+            );
+            enqueue(sink -> sink.send(change));
+        }
+
+        private void offer(SeriesChangedEvent event) {
+            AvailabilityRefreshResponse refresh = new AvailabilityRefreshResponse(
+                    usersByCalendar.get(event.calendarId()), event.from(), event.to());
+            enqueue(sink -> sink.refresh(refresh));
+        }
+
+        private void enqueue(Delivery delivery) {
+            if (!queue.offer(delivery)) {
+                dropped.increment();
+                unregister(this);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // Written by the drain thread like any change, so the sink only ever has one writer.
+        private void heartbeat() {
+            heartbeatDue.set(true);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (!closed.get() && heartbeatDue.getAndSet(false)) {
+                    sink.heartbeat();
+                }
+                Delivery delivery;
+                while (!closed.get() && (delivery = queue.poll()) != null) {
+                    delivery.writeTo(sink);
+                }
+            } catch (IOException | RuntimeException ex) {
+                unregister(this);
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have landed after the last poll but before the flag was cleared.
+            if (!closed.get() && (!queue.isEmpty() || heartbeatDue.get())) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private interface Delivery {
+
+        void writeTo(Sink sink) throws IOException;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements Sink {
+
+        @Override
+        public void send(AvailabilityChangeResponse change) throws IOException {
+            emitter.send(SseEmitter.event().name("slot").data(change, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void refresh(AvailabilityRefreshResponse refresh) throws IOException {
+            emitter.send(SseEmitter.event().name("refresh").data(refresh, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.doodle.service;
 
-import com.doodle.domain.Calendar;
-import com.doodle.domain.TimeSlot;
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.AvailabilityBitmapResponse;
 import com.doodle.dto.response.AvailabilityResponse;
+import com.doodle.dto.response.BatchAvailabilityResponse;
+import com.doodle.dto.response.CommonAvailabilityResponse;
 import com.doodle.dto.response.SlotWindow;
-import com.doodle.exception.ResourceNotFoundException;
-import com.doodle.repository.CalendarRepository;
 import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.projection.CalendarSlotWindow;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,29 +27,161 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AvailabilityService {
 
-    private final CalendarRepository calendarRepository;
+    private static final Duration MAX_BITMAP_RANGE = Duration.ofDays(366);
+    private static final Comparator<SlotWindow> BY_START = Comparator.comparing(SlotWindow::startTime);
+
+    private final UserDirectoryCache userDirectory;
     private final TimeSlotRepository slotRepository;
+    private final SlotIntervalIndex slotIndex;
+    private final SlotSeriesService seriesService;
+    private final int maxBatchUsers;
 
-    public AvailabilityService(CalendarRepository calendarRepository, TimeSlotRepository slotRepository) {
-        this.calendarRepository = calendarRepository;
+    public AvailabilityService(
+            UserDirectoryCache userDirectory,
+            TimeSlotRepository slotRepository,
+            SlotIntervalIndex slotIndex,
+            SlotSeriesService seriesService,
+            @Value("${doodle.availability.batch.max-users:200}") int maxBatchUsers
+    ) {
+        this.userDirectory = userDirectory;
         this.slotRepository = slotRepository;
+        this.slotIndex = slotIndex;
+        this.seriesService = seriesService;
+        this.maxBatchUsers = maxBatchUsers;
     }
 
     public AvailabilityResponse getAvailability(UUID targetUserId, Instant from, Instant to) {
         validateWindow(from, to);
 
-        Calendar calendar = calendarRepository.findByUserId(targetUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("Calendar not found for user"));
+        UUID calendarId = userDirectory.requireCalendarId(targetUserId);
+        return new AvailabilityResponse(targetUserId, from, to, loadWindows(calendarId, from, to));
+    }
 
-        List<TimeSlot> slots = slotRepository.findByCalendarAndRange(
-                calendar.getId(), from, to, Pageable.unpaged()
-        ).getContent();
+    public BatchAvailabilityResponse getBatchAvailability(Set<UUID> userIds, Instant from, Instant to) {
+        validateWindow(from, to);
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("userIds must not be empty");
+        }
+        if (userIds.size() > maxBatchUsers) {
+            throw new IllegalArgumentException("At most " + maxBatchUsers + " users can be requested per call");
+        }
 
-        List<SlotWindow> windows = slots.stream()
-                .map(slot -> new SlotWindow(slot.getStartTime(), slot.getEndTime(), slot.getStatus()))
-                .toList();
+        Map<UUID, UUID> calendarIds = userDirectory.requireCalendarIds(userIds);
+        Map<UUID, List<SlotWindow>> windowsByCalendar = new HashMap<>();
+        if (slotIndex.isEnabled()) {
+            for (UUID calendarId : calendarIds.values()) {
+                windowsByCalendar.put(calendarId, loadIndexedWindows(calendarId, from, to));
+            }
+        } else {
+            for (CalendarSlotWindow slot : slotRepository.findWindowsByCalendarsAndRange(
+                    calendarIds.values(), from, to)) {
+                windowsByCalendar.computeIfAbsent(slot.calendarId(), id -> new ArrayList<>()).add(slot.toWindow());
+            }
+        }
+        Map<UUID, List<SlotWindow>> occurrencesByCalendar = new HashMap<>();
+        for (SeriesOccurrence occurrence : seriesService.occurrences(calendarIds.values(), from, to)) {
+            occurrencesByCalendar.computeIfAbsent(occurrence.calendarId(), id -> new ArrayList<>())
+                    .add(occurrence.toWindow());
+        }
+        occurrencesByCalendar.forEach((calendarId, occurrences) -> windowsByCalendar.put(calendarId,
+                SortedMerge.merge(windowsByCalendar.getOrDefault(calendarId, List.of()), occurrences, BY_START)));
 
-        return new AvailabilityResponse(targetUserId, from, to, windows);
+        List<AvailabilityResponse> users = new ArrayList<>(calendarIds.size());
+        for (Map.Entry<UUID, UUID> entry : calendarIds.entrySet()) {
+            List<SlotWindow> windows = windowsByCalendar.getOrDefault(entry.getValue(), List.of());
+            users.add(new AvailabilityResponse(entry.getKey(), from, to, windows));
+        }
+        return new BatchAvailabilityResponse(from, to, users);
+    }
+
+    public void streamAvailability(UUID targetUserId, Instant from, Instant to, Consumer<SlotWindow> sink) {
+        validateWindow(from, to);
+
+        UUID calendarId = userDirectory.requireCalendarId(targetUserId);
+        List<SlotWindow> occurrences = occurrenceWindows(calendarId, from, to);
+        if (slotIndex.isEnabled()) {
+            SortedMerge.merge(loadIndexedWindows(calendarId, from, to).iterator(), occurrences.iterator(), BY_START, sink);
+            return;
+        }
+
+        try (Stream<SlotWindow> windows = slotRepository.streamWindowsByCalendarAndRange(calendarId, from, to)) {
+            SortedMerge.merge(windows.iterator(), occurrences.iterator(), BY_START, sink);
+        }
+    }
+
+    public AvailabilityBitmapResponse getAvailabilityBitmap(UUID targetUserId, Instant from, Instant to) {
+        validateWindow(from, to);
+        Instant alignedFrom = AvailabilityBitmap.floor(from);
+        Instant alignedTo = AvailabilityBitmap.ceil(to);
+        if (Duration.between(alignedFrom, alignedTo).compareTo(MAX_BITMAP_RANGE) > 0) {
+            throw new IllegalArgumentException("Bitmap range must not exceed " + MAX_BITMAP_RANGE.toDays() + " days");
+        }
+
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(alignedFrom, alignedTo);
+        streamAvailability(targetUserId, alignedFrom, alignedTo,
+                window -> bitmap.mark(window.startTime(), window.endTime(), window.status()));
+        return new AvailabilityBitmapResponse(
+                targetUserId,
+                alignedFrom,
+                alignedTo,
+                AvailabilityBitmap.QUANTUM.toMinutes(),
+                bitmap.toByteArray()
+        );
+    }
+
+    public CommonAvailabilityResponse getCommonAvailability(
+            Set<UUID> userIds,
+            Instant from,
+            Instant to,
+            Duration minDuration
+    ) {
+        validateWindow(from, to);
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("userIds must not be empty");
+        }
+
+        Map<UUID, UUID> calendarIds = userDirectory.requireCalendarIds(userIds);
+        Map<UUID, List<SlotWindow>> freeByCalendar = new HashMap<>();
+        for (UUID calendarId : calendarIds.values()) {
+            freeByCalendar.put(calendarId, new ArrayList<>());
+        }
+        for (CalendarSlotWindow slot : slotRepository.findWindowsByCalendarsRangeAndStatus(
+                calendarIds.values(), from, to, SlotStatus.FREE)) {
+            freeByCalendar.get(slot.calendarId()).add(slot.toWindow());
+        }
+        List<SeriesOccurrence> occurrences = seriesService.occurrences(calendarIds.values(), from, to);
+        if (!occurrences.isEmpty()) {
+            for (SeriesOccurrence occurrence : occurrences) {
+                freeByCalendar.get(occurrence.calendarId()).add(occurrence.toWindow());
+            }
+            freeByCalendar.values().forEach(windows -> windows.sort(BY_START));
+        }
+
+        List<SlotWindow> windows = FreeWindowIntersector.intersect(freeByCalendar.values(), from, to, minDuration);
+        return new CommonAvailabilityResponse(userIds, from, to, minDuration.toMinutes(), windows);
+    }
+
+    private List<SlotWindow> loadWindows(UUID calendarId, Instant from, Instant to) {
+        List<SlotWindow> windows = slotIndex.isEnabled()
+                ? loadIndexedWindows(calendarId, from, to)
+                : slotRepository.findWindowsByCalendarAndRange(calendarId, from, to);
+        return SortedMerge.merge(windows, occurrenceWindows(calendarId, from, to), BY_START);
+    }
+
+    private List<SlotWindow> loadIndexedWindows(UUID calendarId, Instant from, Instant to) {
+        List<SlotWindow> windows = new ArrayList<>();
+        slotIndex.forEachInRange(calendarId, from, to, (start, end, status) -> windows.add(new SlotWindow(
+                SlotIntervalIndex.toInstant(start),
+                SlotIntervalIndex.toInstant(end),
+                status
+        )));
+        return windows;
+    }
+
+    private List<SlotWindow> occurrenceWindows(UUID calendarId, Instant from, Instant to) {
+        return seriesService.occurrences(List.of(calendarId), from, to).stream()
+                .map(SeriesOccurrence::toWindow)
+                .toList();
     }
 
     private void validateWindow(Instant from, Instant to) {
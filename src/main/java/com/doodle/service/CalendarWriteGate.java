@@ -0,0 +1,149 @@
+package com.doodle.service;
+
+import com.doodle.exception.SlotConflictException;
+import com.doodle.repository.CalendarLockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs writes to one calendar one at a time. A striped lock queues them on this node without holding a
+ * connection, and {@code pg_advisory_xact_lock} on the calendar id queues them across nodes. Each attempt
+ * is its own transaction, so a version conflict from a writer outside the gate is retried from scratch
+ * after a jittered backoff.
+ */
+@Service
+public class CalendarWriteGate {
+
+    private final UserDirectoryCache userDirectory;
+    private final CalendarLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+    private final Duration lockTimeout;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Timer lockWait;
+    private final Counter retries;
+    private final Counter conflicts;
+
+    @Autowired
+    public CalendarWriteGate(
+            UserDirectoryCache userDirectory,
+            CalendarLockRepository lockRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.calendar-writes.stripes:256}") int stripeCount,
+            @Value("${doodle.calendar-writes.lock-timeout:PT5S}") Duration lockTimeout,
+            @Value("${doodle.calendar-writes.max-attempts:3}") int maxAttempts,
+            @Value("${doodle.calendar-writes.backoff:PT0.025S}") Duration backoff
+    ) {
+        this(userDirectory, lockRepository, new TransactionTemplate(transactionManager), meterRegistry,
+                stripeCount, lockTimeout, maxAttempts, backoff);
+    }
+
+    CalendarWriteGate(
+            UserDirectoryCache userDirectory,
+            CalendarLockRepository lockRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            int stripeCount,
+            Duration lockTimeout,
+            int maxAttempts,
+            Duration backoff
+    ) {
+        if (stripeCount < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("stripes and max-attempts must be positive");
+        }
+        this.userDirectory = userDirectory;
+        this.lockRepository = lockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.lockTimeout = lockTimeout;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.lockWait = meterRegistry.timer("doodle.calendar.writes.lock.wait");
+        this.retries = meterRegistry.counter("doodle.calendar.writes.retries");
+        this.conflicts = meterRegistry.counter("doodle.calendar.writes.conflicts");
+    }
+
+    /** Runs {@code write} in a new transaction holding the lock on {@code userId}'s calendar. */
+    public <T> T write(UUID userId, Supplier<T> write) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        ReentrantLock stripe = stripes[Math.floorMod(calendarId.hashCode(), stripes.length)];
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(calendarId, stripe, write);
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    conflicts.increment();
+                    throw ex;
+                }
+                retries.increment();
+                pause(attempt);
+            }
+        }
+    }
+
+    public void write(UUID userId, Runnable write) {
+        write(userId, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    private <T> T attempt(UUID calendarId, ReentrantLock stripe, Supplier<T> write) {
+        long waitStart = System.nanoTime();
+        if (!tryLock(stripe)) {
+            lockWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            conflicts.increment();
+            throw new SlotConflictException("Calendar is busy with other changes. Please retry.");
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                lockRepository.lockForTransaction(calendarId);
+                lockWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+                return write.get();
+            });
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private boolean tryLock(ReentrantLock stripe) {
+        try {
+            return stripe.tryLock(lockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Full jitter over an exponentially growing window, so retries from different nodes spread out.
+    private void pause(int attempt) {
+        long window = backoff.toNanos() << Math.min(attempt - 1, 10);
+        if (window <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(window + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SlotConflictException("Calendar is busy with other changes. Please retry.");
+        }
+    }
+}
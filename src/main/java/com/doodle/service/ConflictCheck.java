@@ -0,0 +1,16 @@
+package com.doodle.service;
+
+import java.util.Locale;
+
+/**
+ * What scheduling does about participants who are already busy: nothing, list them on the response, or refuse.
+ */
+public enum ConflictCheck {
+    NONE,
+    REPORT,
+    REJECT;
+
+    public static ConflictCheck fromParam(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,8 +1,7 @@
 package com.doodle.service;
 
-import com.doodle.domain.User;
 import com.doodle.exception.ForbiddenException;
-import com.doodle.repository.UserRepository;
+import com.doodle.security.AuthenticatedUser;
 import java.util.Locale;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
@@ -10,16 +9,17 @@ import org.springframework.stereotype.Service;
 @Service
 public class CurrentUserService {
 
-    private final UserRepository userRepository;
+    private final UserDirectoryCache userDirectory;
 
-    public CurrentUserService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CurrentUserService(UserDirectoryCache userDirectory) {
+        this.userDirectory = userDirectory;
     }
 
-    public UUID resolveUserId(String principalName) {
+    public AuthenticatedUser resolve(String principalName) {
         String normalizedEmail = principalName.trim().toLowerCase(Locale.ROOT);
-        User user = userRepository.findByEmail(normalizedEmail)
+        UUID userId = userDirectory.findUserId(normalizedEmail)
                 .orElseThrow(() -> new ForbiddenException("Authenticated user not found"));
-        return user.getId();
+        UUID calendarId = userDirectory.findCalendarId(userId).orElse(null);
+        return new AuthenticatedUser(userId, calendarId, normalizedEmail, null);
     }
 }
@@ -0,0 +1,98 @@
+package com.doodle.service;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.SlotWindow;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+final class FreeWindowIntersector {
+
+    private FreeWindowIntersector() {
+    }
+
+    // Each list must be sorted by start time. Runs in O(n log k) for n windows across k users.
+    static List<SlotWindow> intersect(
+            Collection<List<SlotWindow>> windowsPerUser,
+            Instant from,
+            Instant to,
+            Duration minDuration
+    ) {
+        int users = windowsPerUser.size();
+        if (users == 0) {
+            return List.of();
+        }
+
+        List<List<SlotWindow>> lists = new ArrayList<>(users);
+        for (List<SlotWindow> windows : windowsPerUser) {
+            List<SlotWindow> coalesced = coalesce(windows, from, to);
+            if (coalesced.isEmpty()) {
+                return List.of();
+            }
+            lists.add(coalesced);
+        }
+
+        int[] cursor = new int[users];
+        PriorityQueue<Integer> byEnd = new PriorityQueue<>(users,
+                (a, b) -> current(lists, cursor, a).endTime().compareTo(current(lists, cursor, b).endTime()));
+        Instant maxStart = from;
+        for (int user = 0; user < users; user++) {
+            byEnd.add(user);
+            maxStart = max(maxStart, lists.get(user).get(0).startTime());
+        }
+
+        List<SlotWindow> common = new ArrayList<>();
+        while (true) {
+            int user = byEnd.poll();
+            Instant end = current(lists, cursor, user).endTime();
+            if (maxStart.isBefore(end) && Duration.between(maxStart, end).compareTo(minDuration) >= 0) {
+                common.add(new SlotWindow(maxStart, end, SlotStatus.FREE));
+            }
+
+            cursor[user]++;
+            if (cursor[user] == lists.get(user).size()) {
+                return common;
+            }
+            // Starts only move forward, so the running maximum stays valid without rescanning.
+            maxStart = max(maxStart, current(lists, cursor, user).startTime());
+            byEnd.add(user);
+        }
+    }
+
+    private static List<SlotWindow> coalesce(List<SlotWindow> windows, Instant from, Instant to) {
+        List<SlotWindow> result = new ArrayList<>(windows.size());
+        Instant openStart = null;
+        Instant openEnd = null;
+        for (SlotWindow window : windows) {
+            Instant start = max(window.startTime(), from);
+            Instant end = window.endTime().isAfter(to) ? to : window.endTime();
+            if (!start.isBefore(end)) {
+                continue;
+            }
+            if (openEnd != null && !start.isAfter(openEnd)) {
+                openEnd = max(openEnd, end);
+                continue;
+            }
+            if (openEnd != null) {
+                result.add(new SlotWindow(openStart, openEnd, SlotStatus.FREE));
+            }
+            openStart = start;
+            openEnd = end;
+        }
+        if (openEnd != null) {
+            result.add(new SlotWindow(openStart, openEnd, SlotStatus.FREE));
+        }
+        return result;
+    }
+
+    private static SlotWindow current(List<List<SlotWindow>> lists, int[] cursor, int user) {
+        return lists.get(user).get(cursor[user]);
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,76 @@
+package com.doodle.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deadlines hashed into a ring of buckets by tick. Scheduling is O(1) from any thread; {@link #advance}
+ * only visits the buckets of the ticks that passed, and an entry further out than one turn of the ring
+ * simply stays in its bucket until its tick comes round. {@link #advance} must be called from one thread.
+ */
+final class HashedTimerWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry<T>>[] buckets;
+    private final long originMillis;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimerWheel(Duration tick, int bucketCount, Instant origin) {
+        if (Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("bucketCount must be a power of two");
+        }
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.mask = bucketCount - 1;
+        this.buckets = new Queue[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.originMillis = origin.toEpochMilli();
+    }
+
+    void schedule(T item, Instant deadline) {
+        long deadlineTick = Math.ceilDiv(deadline.toEpochMilli() - originMillis, tickMillis);
+        // A deadline already behind the wheel fires on the next tick.
+        long tick = Math.max(deadlineTick, currentTick + 1);
+        buckets[(int) (tick & mask)].add(new Entry<>(item, tick));
+        pending.incrementAndGet();
+    }
+
+    List<T> advance(Instant now) {
+        long targetTick = Math.floorDiv(now.toEpochMilli() - originMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        // Past one full turn every bucket has been visited, so later ticks would find nothing new.
+        long from = Math.max(currentTick + 1, targetTick - mask);
+        for (long tick = from; tick <= targetTick; tick++) {
+            Iterator<Entry<T>> entries = buckets[(int) (tick & mask)].iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.tick <= targetTick) {
+                    entries.remove();
+                    pending.decrementAndGet();
+                    expired.add(entry.item);
+                }
+            }
+        }
+        if (targetTick > currentTick) {
+            currentTick = targetTick;
+        }
+        return expired;
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    private record Entry<T>(T item, long tick) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.doodle.service;
+
+import com.doodle.domain.IdempotencyRecord;
+import com.doodle.exception.IdempotencyKeyReusedException;
+import com.doodle.repository.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Replays the stored response for a repeated {@code Idempotency-Key}. The key is claimed, the
+ * action runs and the response is stored in one transaction, so a concurrent duplicate waits on
+ * the claim and then replays, and a failed action leaves the key free for the next retry.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Cache<IdempotencyRecord.Key, StoredResponse> responses;
+    private final Counter replays;
+
+    @Autowired
+    public IdempotencyService(
+            IdempotencyKeyRepository repository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${doodle.idempotency.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${doodle.idempotency.cache.ttl:PT10M}") Duration cacheTtl
+    ) {
+        this(repository, objectMapper, meterRegistry, Clock.systemUTC(), ttl, cacheMaxSize, cacheTtl);
+    }
+
+    IdempotencyService(
+            IdempotencyKeyRepository repository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            Duration ttl,
+            long cacheMaxSize,
+            Duration cacheTtl
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl.compareTo(ttl) < 0 ? cacheTtl : ttl)
+                .recordStats()
+                .build();
+        this.replays = meterRegistry.counter("doodle.idempotency.replays");
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "doodle.idempotencyResponses");
+    }
+
+    @Transactional
+    public <T> Result<T> execute(
+            UUID userId,
+            String idempotencyKey,
+            String operation,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> action
+    ) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        IdempotencyRecord.Key key = new IdempotencyRecord.Key(userId, idempotencyKey);
+        String requestHash = fingerprint(operation, request);
+
+        StoredResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        if (repository.claim(userId, idempotencyKey, requestHash, clock.instant().plus(ttl)) == 0) {
+            IdempotencyRecord existing = repository.findById(key)
+                    .orElseThrow(() -> new IllegalStateException("Idempotency key vanished after claim"));
+            StoredResponse stored = new StoredResponse(existing.getRequestHash(), existing.getResponseBody());
+            responses.put(key, stored);
+            return replay(stored, requestHash, responseType);
+        }
+
+        T response = action.get();
+        String body = objectMapper.writeValueAsString(response);
+        repository.complete(userId, idempotencyKey, body);
+        StoredResponse stored = new StoredResponse(requestHash, body);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                responses.put(key, stored);
+            }
+        });
+        return new Result<>(response, false);
+    }
+
+    @Scheduled(fixedDelayString = "${doodle.idempotency.cleanup-interval:PT10M}")
+    @Transactional
+    public int deleteExpired() {
+        return repository.deleteExpired(clock.instant());
+    }
+
+    private <T> Result<T> replay(StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("Idempotency-Key was already used for a different request");
+        }
+        replays.increment();
+        return new Result<>(objectMapper.readValue(stored.body(), responseType), true);
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public record Result<T>(T body, boolean replayed) {
+    }
+
+    private record StoredResponse(String requestHash, String body) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.doodle.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a keyset page, ordered by {@code (startTime, id)}.
+ * Clients only see the encoded token.
+ */
+public record KeysetCursor(Instant startTime, UUID id) {
+
+    private static final String VERSION = "k1";
+
+    public String encode() {
+        String raw = VERSION + "|" + startTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(Instant.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (DateTimeException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.doodle.service;
+
+import java.util.List;
+
+public record KeysetPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
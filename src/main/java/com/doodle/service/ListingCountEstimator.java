@@ -0,0 +1,84 @@
+package com.doodle.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Row estimates for the listing queries, read from the top node of the Postgres plan
+ * instead of running their COUNT. Estimates are cached briefly so paging through one
+ * range plans once.
+ */
+@Component
+class ListingCountEstimator {
+
+    // Only typed UUID and Instant values are inlined, so the literals cannot carry SQL.
+    private static final String SLOTS_SQL = "SELECT 1 FROM time_slots " +
+            "WHERE calendar_id = '%s'::uuid " +
+            "AND start_time < '%s'::timestamptz " +
+            "AND end_time > '%s'::timestamptz";
+    private static final String MEETINGS_SQL = "SELECT 1 FROM user_agenda " +
+            "WHERE user_id = '%s'::uuid " +
+            "AND start_time < '%s'::timestamptz " +
+            "AND end_time > '%s'::timestamptz";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<List<Object>, Long> estimates;
+
+    ListingCountEstimator(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.paging.estimate.max-size:10000}") long maxSize,
+            @Value("${doodle.paging.estimate.ttl:PT30S}") Duration ttl
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, estimates, "doodle.listingEstimates");
+    }
+
+    long estimateSlots(UUID calendarId, Instant from, Instant to) {
+        return estimates.get(List.of("slots", calendarId, from, to),
+                key -> planRows(SLOTS_SQL.formatted(calendarId, to, from)));
+    }
+
+    long estimateMeetings(UUID userId, Instant from, Instant to) {
+        return estimates.get(List.of("meetings", userId, from, to),
+                key -> planRows(MEETINGS_SQL.formatted(userId, to, from)));
+    }
+
+    /**
+     * A slice with an estimated total. The estimate is raised to cover the rows already seen,
+     * and once the last page is reached the total is exact.
+     */
+    static <T> Page<T> withEstimate(Slice<T> slice, long estimate) {
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(estimate, seen + 1) : seen;
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    private long planRows(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+        return objectMapper.readTree(plan).get(0).get("Plan").get("Plan Rows").asLong();
+    }
+}
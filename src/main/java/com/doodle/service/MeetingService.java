@@ -1,31 +1,48 @@
 package com.doodle.service;
 
-import com.doodle.domain.Calendar;
 import com.doodle.domain.Meeting;
 import com.doodle.domain.SlotStatus;
 import com.doodle.domain.TimeSlot;
-import com.doodle.domain.User;
+import com.doodle.dto.request.BookFirstAvailableRequest;
 import com.doodle.dto.request.ScheduleMeetingRequest;
 import com.doodle.dto.request.UpdateMeetingRequest;
 import com.doodle.dto.response.MeetingResponse;
+import com.doodle.event.MeetingChangedEvent;
+import com.doodle.event.SlotChangedEvent;
 import com.doodle.exception.ForbiddenException;
 import com.doodle.exception.ResourceNotFoundException;
 import com.doodle.exception.SlotConflictException;
 import com.doodle.mapper.MeetingMapper;
-import com.doodle.repository.CalendarRepository;
 import com.doodle.repository.MeetingRepository;
 import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.UserAgendaRepository;
 import com.doodle.repository.UserRepository;
+import com.doodle.repository.projection.BookedSlot;
+import com.doodle.repository.projection.MeetingParticipantRow;
+import com.doodle.repository.projection.MeetingSeekKey;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,62 +51,144 @@ import org.springframework.transaction.annotation.Transactional;
 public class MeetingService {
 
     private final MeetingRepository meetingRepository;
+    private final UserAgendaRepository agendaRepository;
     private final TimeSlotRepository slotRepository;
-    private final CalendarRepository calendarRepository;
+    private final UserDirectoryCache userDirectory;
+    private final SlotSeriesService seriesService;
+    private final ListingCountEstimator countEstimator;
     private final UserRepository userRepository;
     private final MeetingMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
     private final Counter meetingsScheduled;
+    private final int maxBookingCandidates;
 
     public MeetingService(
             MeetingRepository meetingRepository,
+            UserAgendaRepository agendaRepository,
             TimeSlotRepository slotRepository,
-            CalendarRepository calendarRepository,
+            UserDirectoryCache userDirectory,
+            SlotSeriesService seriesService,
+            ListingCountEstimator countEstimator,
             UserRepository userRepository,
             MeetingMapper mapper,
-            MeterRegistry meterRegistry
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.meetings.first-available.max-candidates:10}") int maxBookingCandidates
     ) {
         this.meetingRepository = meetingRepository;
+        this.agendaRepository = agendaRepository;
         this.slotRepository = slotRepository;
-        this.calendarRepository = calendarRepository;
+        this.userDirectory = userDirectory;
+        this.seriesService = seriesService;
+        this.countEstimator = countEstimator;
         this.userRepository = userRepository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
         this.meetingsScheduled = meterRegistry.counter("doodle.meetings.scheduled");
+        this.maxBookingCandidates = maxBookingCandidates;
     }
 
     @Transactional
-    public MeetingResponse scheduleMeeting(UUID userId, ScheduleMeetingRequest req) {
-        TimeSlot slot = getSlotWithOwnershipCheck(userId, req.slotId());
-
-        if (slot.getStatus() != SlotStatus.FREE) {
-            throw new SlotConflictException("Slot is already busy");
-        }
-
-        if (meetingRepository.existsBySlotId(req.slotId())) {
-            throw new SlotConflictException("Slot already converted to a meeting");
+    public MeetingResponse scheduleMeeting(UUID userId, ScheduleMeetingRequest req, ConflictCheck conflictCheck) {
+        if (req.slotId() != null) {
+            return bookSlot(userId, req, conflictCheck);
         }
 
-        Set<User> participants = resolveParticipants(req.participantIds());
+        TimeSlot slot = materializeOccurrence(userId, req.seriesId(), req.occurrenceStart());
+        Set<UUID> participants = resolveParticipants(req.participantIds());
+        UUID meetingId = UUID.randomUUID();
+        Set<UUID> conflicts = participantConflicts(
+                conflictCheck, userId, participants, meetingId, slot.getStartTime(), slot.getEndTime());
 
         Meeting meeting = new Meeting();
-        meeting.setId(UUID.randomUUID());
-        meeting.setSlotId(req.slotId());
+        meeting.setId(meetingId);
+        meeting.setSlotId(slot.getId());
         meeting.setOrganizerId(userId);
         meeting.setTitle(req.title().trim());
         meeting.setDescription(req.description());
-        meeting.setParticipants(participants);
+        meeting.setParticipantIds(participants);
 
         slot.setStatus(SlotStatus.BUSY);
-        slotRepository.saveAndFlush(slot);
+        try {
+            slotRepository.saveAndFlush(slot);
+        } catch (DataIntegrityViolationException ex) {
+            if (OverlapConstraint.isViolation(ex)) {
+                throw new SlotConflictException("Occurrence overlaps with an existing slot");
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(SlotChangedEvent.saved(slot));
 
-        Meeting saved = meetingRepository.save(meeting);
+        Meeting saved = meetingRepository.saveAndFlush(meeting);
+        agendaRepository.addAttendees(saved.getId(), attendees(userId, participants));
+        eventPublisher.publishEvent(new MeetingChangedEvent(
+                MeetingChangedEvent.Type.SCHEDULED, saved.getId(), slot.getCalendarId(), slot.getId(), userId));
         meetingsScheduled.increment();
-        return mapper.toResponse(saved);
+        return mapper.toResponse(saved).withConflicts(conflicts);
+    }
+
+    // Search and booking share one transaction. A candidate taken concurrently just misses the conditional update,
+    // and the next one is tried.
+    @Transactional
+    public MeetingResponse bookFirstAvailable(UUID userId, BookFirstAvailableRequest req) {
+        validateWindow(req.from(), req.to());
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        Set<UUID> participants = resolveParticipants(req.participantIds());
+        List<UUID> candidates = slotRepository.findFreeSlotIdsClearFor(
+                calendarId,
+                attendees(userId, participants),
+                req.from(),
+                req.to(),
+                Duration.ofMinutes(req.minSlotMinutes()).toSeconds(),
+                maxBookingCandidates
+        );
+        for (UUID slotId : candidates) {
+            Optional<MeetingResponse> booked = tryBook(userId, calendarId, slotId, null, req.title().trim(),
+                    req.description(), participants, ConflictCheck.NONE);
+            if (booked.isPresent()) {
+                return booked.get();
+            }
+        }
+        throw new SlotConflictException("No free slot in range suits every participant");
     }
 
-    public Page<MeetingResponse> getMeetings(UUID userId, Instant from, Instant to, Pageable pageable) {
+    public Slice<MeetingResponse> getMeetings(
+            UUID userId,
+            Instant from,
+            Instant to,
+            Pageable pageable,
+            TotalsMode totals
+    ) {
         validateWindow(from, to);
-        return meetingRepository.findMyMeetingsInRange(userId, from, to, pageable)
-                .map(mapper::toResponse);
+        Slice<MeetingSeekKey> keys = switch (totals) {
+            case EXACT -> agendaRepository.findPageInRange(userId, from, to, pageable);
+            case NONE -> agendaRepository.findSliceInRange(userId, from, to, pageable);
+            case ESTIMATE -> ListingCountEstimator.withEstimate(
+                    agendaRepository.findSliceInRange(userId, from, to, pageable),
+                    countEstimator.estimateMeetings(userId, from, to));
+        };
+        List<MeetingResponse> content = loadInOrder(keys.getContent());
+        if (keys instanceof Page<MeetingSeekKey> page) {
+            return new PageImpl<>(content, pageable, page.getTotalElements());
+        }
+        return new SliceImpl<>(content, pageable, keys.hasNext());
+    }
+
+    public KeysetPage<MeetingResponse> getMeetingsAfter(UUID userId, Instant from, Instant to, String cursor, int size) {
+        validateWindow(from, to);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<MeetingSeekKey> keys = after == null
+                ? agendaRepository.findFirstInRange(userId, from, to, limit)
+                : agendaRepository.findInRangeAfter(userId, from, to, after.startTime(), after.id(), limit);
+        List<MeetingSeekKey> pageKeys = keys.size() > size ? keys.subList(0, size) : keys;
+        if (pageKeys.isEmpty()) {
+            return new KeysetPage<>(List.of(), null);
+        }
+
+        MeetingSeekKey last = pageKeys.getLast();
+        String nextCursor = keys.size() > size ? new KeysetCursor(last.startTime(), last.meetingId()).encode() : null;
+        return new KeysetPage<>(loadInOrder(pageKeys), nextCursor);
     }
 
     public MeetingResponse getMeeting(UUID userId, UUID meetingId) {
@@ -113,10 +212,21 @@ public class MeetingService {
         }
 
         if (req.participantIds() != null) {
-            meeting.setParticipants(resolveParticipants(req.participantIds()));
+            meeting.setParticipantIds(resolveParticipants(req.participantIds()));
+            Set<UUID> attendees = attendees(meeting.getOrganizerId(), meeting.getParticipantIds());
+            agendaRepository.removeAttendeesExcept(meetingId, attendees);
+            agendaRepository.addAttendees(meetingId, attendees);
         }
 
-        return mapper.toResponse(meetingRepository.save(meeting));
+        Meeting saved = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(
+                MeetingChangedEvent.Type.UPDATED,
+                meetingId,
+                userDirectory.requireCalendarId(meeting.getOrganizerId()),
+                meeting.getSlotId(),
+                meeting.getOrganizerId()
+        ));
+        return mapper.toResponse(saved);
     }
 
     @Transactional
@@ -127,17 +237,123 @@ public class MeetingService {
 
         slot.setStatus(SlotStatus.FREE);
         slotRepository.save(slot);
+        // user_agenda rows go with the meeting through fk_agenda_meeting.
         meetingRepository.delete(meeting);
+        eventPublisher.publishEvent(SlotChangedEvent.saved(slot));
+        eventPublisher.publishEvent(new MeetingChangedEvent(
+                MeetingChangedEvent.Type.CANCELLED, meetingId, slot.getCalendarId(), slot.getId(), userId));
+    }
+
+    // One conditional statement flips the slot and inserts the meeting; the slot is only read back to explain a miss.
+    private MeetingResponse bookSlot(UUID userId, ScheduleMeetingRequest req, ConflictCheck conflictCheck) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        Set<UUID> participantIds = req.participantIds() == null ? Set.of() : new HashSet<>(req.participantIds());
+        return tryBook(userId, calendarId, req.slotId(), req.holdToken(), req.title().trim(), req.description(),
+                participantIds, conflictCheck)
+                .orElseThrow(() -> bookingMiss(calendarId, req.slotId()));
     }
 
-    private TimeSlot getSlotWithOwnershipCheck(UUID userId, UUID slotId) {
-        Calendar calendar = calendarRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Calendar not found for user"));
-        TimeSlot slot = slotRepository.findById(slotId)
-                .orElseThrow(() -> new ResourceNotFoundException("Time slot not found"));
-        if (!slot.getCalendarId().equals(calendar.getId())) {
-            throw new ForbiddenException("You do not own this slot");
+    private Optional<MeetingResponse> tryBook(
+            UUID userId,
+            UUID calendarId,
+            UUID slotId,
+            UUID holdToken,
+            String title,
+            String description,
+            Set<UUID> participantIds,
+            ConflictCheck conflictCheck
+    ) {
+        UUID meetingId = UUID.randomUUID();
+        Optional<BookedSlot> result;
+        try {
+            result = meetingRepository.bookFreeSlot(
+                    meetingId, slotId, calendarId, holdToken, userId, title, description, participantIds);
+        } catch (DuplicateKeyException ex) {
+            throw new SlotConflictException("Slot already converted to a meeting");
         }
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        BookedSlot booked = result.get();
+        if (booked.participantIds().size() != participantIds.size()) {
+            Set<UUID> missing = new HashSet<>(participantIds);
+            missing.removeAll(booked.participantIds());
+            throw new ResourceNotFoundException("Participants not found: " + missing);
+        }
+        Set<UUID> conflicts = participantConflicts(
+                conflictCheck, userId, participantIds, meetingId, booked.startTime(), booked.endTime());
+
+        eventPublisher.publishEvent(new SlotChangedEvent(
+                SlotChangedEvent.Type.SAVED,
+                booked.calendarId(),
+                slotId,
+                booked.startTime(),
+                booked.endTime(),
+                SlotStatus.BUSY
+        ));
+        eventPublisher.publishEvent(new MeetingChangedEvent(
+                MeetingChangedEvent.Type.SCHEDULED, meetingId, booked.calendarId(), slotId, userId));
+        meetingsScheduled.increment();
+        return Optional.of(new MeetingResponse(
+                meetingId,
+                slotId,
+                userId,
+                title,
+                description,
+                booked.meetingCreatedAt(),
+                booked.participantIds(),
+                conflicts
+        ));
+    }
+
+    // Null when the check is off, so the response omits the field.
+    private Set<UUID> participantConflicts(
+            ConflictCheck conflictCheck,
+            UUID organizerId,
+            Set<UUID> participantIds,
+            UUID meetingId,
+            Instant startTime,
+            Instant endTime
+    ) {
+        if (conflictCheck == ConflictCheck.NONE) {
+            return null;
+        }
+        Set<UUID> others = new HashSet<>(participantIds);
+        others.remove(organizerId);
+        if (others.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> conflicts = Set.copyOf(agendaRepository.findBusyUsers(others, startTime, endTime, meetingId));
+        if (conflictCheck == ConflictCheck.REJECT && !conflicts.isEmpty()) {
+            throw new SlotConflictException("Participants are busy at that time: " + conflicts);
+        }
+        return conflicts;
+    }
+
+    private RuntimeException bookingMiss(UUID calendarId, UUID slotId) {
+        TimeSlot slot = slotRepository.findById(slotId).orElse(null);
+        if (slot == null) {
+            return new ResourceNotFoundException("Time slot not found");
+        }
+        if (!slot.getCalendarId().equals(calendarId)) {
+            return new ForbiddenException("You do not own this slot");
+        }
+        if (slot.getStatus() == SlotStatus.HOLD) {
+            return new SlotConflictException("Slot is held; book it with the holdToken returned by the hold");
+        }
+        return new SlotConflictException("Slot is already busy");
+    }
+
+    private TimeSlot materializeOccurrence(UUID userId, UUID seriesId, Instant occurrenceStart) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        SeriesOccurrence occurrence = seriesService.claimOccurrence(calendarId, seriesId, occurrenceStart);
+
+        TimeSlot slot = new TimeSlot();
+        slot.setId(UUID.randomUUID());
+        slot.setCalendarId(calendarId);
+        slot.setStartTime(occurrence.startTime());
+        slot.setEndTime(occurrence.endTime());
+        slot.setStatus(SlotStatus.FREE);
         return slot;
     }
 
@@ -145,8 +361,7 @@ public class MeetingService {
         Meeting meeting = meetingRepository.findByIdWithParticipants(meetingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Meeting not found"));
         boolean isOrganizer = meeting.getOrganizerId().equals(userId);
-        boolean isParticipant = meeting.getParticipants().stream()
-                .anyMatch(user -> user.getId().equals(userId));
+        boolean isParticipant = meeting.getParticipantIds().contains(userId);
         if (!isOrganizer && !isParticipant) {
             throw new ForbiddenException("You do not have access to this meeting");
         }
@@ -162,20 +377,44 @@ public class MeetingService {
         return meeting;
     }
 
-    private Set<User> resolveParticipants(Set<UUID> participantIds) {
+    private Set<UUID> resolveParticipants(Set<UUID> participantIds) {
         if (participantIds == null || participantIds.isEmpty()) {
             return new HashSet<>();
         }
 
         Set<UUID> uniqueIds = new HashSet<>(participantIds);
-        List<User> users = userRepository.findAllById(uniqueIds);
-        if (users.size() != uniqueIds.size()) {
-            Set<UUID> foundIds = users.stream().map(User::getId).collect(Collectors.toSet());
+        Set<UUID> foundIds = userRepository.findExistingIds(uniqueIds);
+        if (foundIds.size() != uniqueIds.size()) {
             Set<UUID> missing = new HashSet<>(uniqueIds);
             missing.removeAll(foundIds);
             throw new ResourceNotFoundException("Participants not found: " + missing);
         }
-        return new HashSet<>(users);
+        return uniqueIds;
+    }
+
+    // Two queries per page whatever its size: the meetings, then every participant id for them.
+    private List<MeetingResponse> loadInOrder(List<MeetingSeekKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> meetingIds = keys.stream().map(MeetingSeekKey::meetingId).toList();
+        Map<UUID, Meeting> meetings = meetingRepository.findAllById(meetingIds).stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+        Map<UUID, Set<UUID>> participantIds = meetingRepository.findParticipantIds(meetingIds).stream()
+                .collect(Collectors.groupingBy(
+                        MeetingParticipantRow::getMeetingId,
+                        Collectors.mapping(MeetingParticipantRow::getUserId, Collectors.toSet())));
+        return meetingIds.stream()
+                .map(meetings::get)
+                .filter(Objects::nonNull)
+                .map(meeting -> mapper.toResponse(meeting, participantIds.getOrDefault(meeting.getId(), Set.of())))
+                .toList();
+    }
+
+    private Set<UUID> attendees(UUID organizerId, Set<UUID> participantIds) {
+        Set<UUID> attendees = new HashSet<>(participantIds);
+        attendees.add(organizerId);
+        return attendees;
     }
 
     private void validateWindow(Instant from, Instant to) {
@@ -0,0 +1,96 @@
+package com.doodle.service;
+
+import com.doodle.event.OutboxMessage;
+import com.doodle.event.OutboxSink;
+import com.doodle.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains {@code outbox_events} into the {@link OutboxSink} beans in batches. Each batch is locked with
+ * {@code FOR UPDATE SKIP LOCKED}, so several nodes can relay at once. A calendar whose older events are
+ * held by another node is left for a later batch, which keeps every calendar in order.
+ */
+@Component
+class OutboxRelay {
+
+    private final OutboxRepository repository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Counter delivered;
+    private final Counter failures;
+
+    OutboxRelay(
+            OutboxRepository repository,
+            List<OutboxSink> sinks,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.outbox.enabled:false}") boolean enabled,
+            @Value("${doodle.outbox.relay.batch-size:100}") int batchSize
+    ) {
+        this.repository = repository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.delivered = meterRegistry.counter("doodle.outbox.delivered");
+        this.failures = meterRegistry.counter("doodle.outbox.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${doodle.outbox.relay.interval:PT1S}")
+    public void relay() {
+        if (!enabled || sinks.isEmpty()) {
+            return;
+        }
+        try {
+            Integer count;
+            do {
+                count = transactionTemplate.execute(status -> relayBatch());
+            } while (count != null && count == batchSize);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            throw ex;
+        }
+    }
+
+    // Returns how many messages were delivered; fewer than the batch size means the outbox is drained for now.
+    int relayBatch() {
+        List<OutboxMessage> locked = repository.lockOldest(batchSize);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, Long> heldElsewhere = repository.findOldestOtherIds(
+                locked.stream().map(OutboxMessage::calendarId).distinct().toList(),
+                locked.stream().map(OutboxMessage::id).toList());
+        List<OutboxMessage> ready = inOrder(locked, heldElsewhere);
+        if (ready.isEmpty()) {
+            return 0;
+        }
+        for (OutboxSink sink : sinks) {
+            sink.deliver(ready);
+        }
+        repository.delete(ready.stream().map(OutboxMessage::id).toList());
+        delivered.increment(ready.size());
+        return ready.size();
+    }
+
+    // Keeps a calendar's messages only up to the first older one that another relay holds.
+    static List<OutboxMessage> inOrder(List<OutboxMessage> locked, Map<UUID, Long> heldElsewhere) {
+        return locked.stream()
+                .filter(message -> {
+                    Long blockedFrom = heldElsewhere.get(message.calendarId());
+                    return blockedFrom == null || message.id() < blockedFrom;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.doodle.service;
+
+import com.doodle.event.MeetingChangedEvent;
+import com.doodle.event.SeriesChangedEvent;
+import com.doodle.event.SlotChangedEvent;
+import com.doodle.repository.CalendarLockRepository;
+import com.doodle.repository.OutboxRepository;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Records slot and meeting changes in {@code outbox_events} just before the publishing transaction
+ * commits, so an event exists exactly when its change does. The calendar's advisory lock is taken first
+ * and held through commit, so on one calendar ids are handed out in commit order and the relay never
+ * sees a higher id before a lower one that is still in flight.
+ */
+@Component
+class OutboxWriter {
+
+    private final OutboxRepository repository;
+    private final CalendarLockRepository lockRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    OutboxWriter(
+            OutboxRepository repository,
+            CalendarLockRepository lockRepository,
+            ObjectMapper objectMapper,
+            @Value("${doodle.outbox.enabled:false}") boolean enabled
+    ) {
+        this.repository = repository;
+        this.lockRepository = lockRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSlotChanged(SlotChangedEvent event) {
+        append(event.calendarId(), "slot." + event.type(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        append(event.calendarId(), "meeting." + event.type(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSeriesChanged(SeriesChangedEvent event) {
+        append(event.calendarId(), "series." + event.type(), event);
+    }
+
+    private void append(UUID calendarId, String eventType, Object event) {
+        if (enabled) {
+            lockRepository.lockForTransaction(calendarId);
+            repository.append(calendarId, eventType.toLowerCase(Locale.ROOT), objectMapper.writeValueAsString(event));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.doodle.service;
+
+import java.sql.SQLException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+final class OverlapConstraint {
+
+    // Postgres exclusion_violation, raised by excl_slots_calendar_overlap.
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private OverlapConstraint() {
+    }
+
+    static boolean isViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.doodle.service;
+
+import com.doodle.domain.RecurrenceFrequency;
+import com.doodle.domain.SlotSeries;
+import com.doodle.dto.response.SlotWindow;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+final class RecurrenceExpander {
+
+    private RecurrenceExpander() {
+    }
+
+    // Occurrences of the series that overlap [from, to), skipping the given exception starts.
+    static List<SeriesOccurrence> expand(SlotSeries series, Instant from, Instant to, Set<Instant> exceptions) {
+        ZoneId zone = ZoneId.of(series.getTimeZone());
+        Duration duration = Duration.ofMinutes(series.getDurationMinutes());
+        // An occurrence is at most a day long, so one starting the day before can still reach into the window.
+        LocalDate first = max(series.getStartDate(), from.atZone(zone).toLocalDate().minusDays(1));
+        LocalDate last = min(series.getUntilDate(), to.atZone(zone).toLocalDate());
+
+        List<SeriesOccurrence> occurrences = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (!matches(series, date)) {
+                continue;
+            }
+            Instant start = ZonedDateTime.of(date, series.getStartTime(), zone).toInstant();
+            Instant end = start.plus(duration);
+            if (start.isBefore(to) && end.isAfter(from) && !exceptions.contains(start)) {
+                occurrences.add(new SeriesOccurrence(series.getId(), series.getCalendarId(), start, end));
+            }
+        }
+        return occurrences;
+    }
+
+    static boolean isOccurrence(SlotSeries series, Instant start) {
+        ZoneId zone = ZoneId.of(series.getTimeZone());
+        LocalDate date = start.atZone(zone).toLocalDate();
+        return !date.isBefore(series.getStartDate())
+                && !date.isAfter(series.getUntilDate())
+                && matches(series, date)
+                && ZonedDateTime.of(date, series.getStartTime(), zone).toInstant().equals(start);
+    }
+
+    static boolean matches(SlotSeries series, LocalDate date) {
+        int interval = Math.max(1, series.getRepeatInterval());
+        if (series.getFrequency() == RecurrenceFrequency.DAILY) {
+            return ChronoUnit.DAYS.between(series.getStartDate(), date) % interval == 0;
+        }
+        if (!series.occursOn(date.getDayOfWeek())) {
+            return false;
+        }
+        LocalDate firstWeek = series.getStartDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate week = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return ChronoUnit.WEEKS.between(firstWeek, week) % interval == 0;
+    }
+
+    // Merges overlapping or touching windows into a sorted, disjoint list. Status is not preserved.
+    static List<SlotWindow> union(List<SlotWindow> windows) {
+        List<SlotWindow> sorted = new ArrayList<>(windows);
+        sorted.sort(Comparator.comparing(SlotWindow::startTime));
+        List<SlotWindow> merged = new ArrayList<>(sorted.size());
+        for (SlotWindow window : sorted) {
+            if (!merged.isEmpty() && !window.startTime().isAfter(merged.getLast().endTime())) {
+                SlotWindow last = merged.getLast();
+                if (window.endTime().isAfter(last.endTime())) {
+                    merged.set(merged.size() - 1, new SlotWindow(last.startTime(), window.endTime(), last.status()));
+                }
+            } else {
+                merged.add(window);
+            }
+        }
+        return merged;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,18 @@
+package com.doodle.service;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.dto.response.TimeSlotResponse;
+import java.time.Instant;
+import java.util.UUID;
+
+record SeriesOccurrence(UUID seriesId, UUID calendarId, Instant startTime, Instant endTime) {
+
+    SlotWindow toWindow() {
+        return new SlotWindow(startTime, endTime, SlotStatus.FREE);
+    }
+
+    TimeSlotResponse toResponse() {
+        return new TimeSlotResponse(null, calendarId, startTime, endTime, SlotStatus.FREE, null, null, seriesId);
+    }
+}
@@ -0,0 +1,174 @@
+package com.doodle.service;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.domain.TimeSlot;
+import com.doodle.dto.response.SlotHoldResponse;
+import com.doodle.event.SlotChangedEvent;
+import com.doodle.exception.ForbiddenException;
+import com.doodle.exception.ResourceNotFoundException;
+import com.doodle.exception.SlotConflictException;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.projection.ReleasedHold;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Short reservations of a FREE slot. Each hold is put on an in-memory timer wheel so it is released
+ * within a tick of expiring; the expiry is also stored, and a sweeper over {@code idx_slots_hold_expires}
+ * releases holds the wheel lost to a restart or placed by another node.
+ */
+@Service
+public class SlotHoldService {
+
+    private static final int WHEEL_BUCKETS = 512;
+
+    private final TimeSlotRepository slotRepository;
+    private final UserDirectoryCache userDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration maxTtl;
+    private final int sweepBatchSize;
+    private final HashedTimerWheel<UUID> wheel;
+    private final Counter expired;
+
+    @Autowired
+    public SlotHoldService(
+            TimeSlotRepository slotRepository,
+            UserDirectoryCache userDirectory,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.slots.hold.max-ttl:PT15M}") Duration maxTtl,
+            @Value("${doodle.slots.hold.tick:PT1S}") Duration tick,
+            @Value("${doodle.slots.hold.sweep-batch-size:500}") int sweepBatchSize
+    ) {
+        this(slotRepository, userDirectory, eventPublisher, new TransactionTemplate(transactionManager), meterRegistry,
+                Clock.systemUTC(), maxTtl, tick, sweepBatchSize);
+    }
+
+    SlotHoldService(
+            TimeSlotRepository slotRepository,
+            UserDirectoryCache userDirectory,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            Duration maxTtl,
+            Duration tick,
+            int sweepBatchSize
+    ) {
+        this.slotRepository = slotRepository;
+        this.userDirectory = userDirectory;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.sweepBatchSize = sweepBatchSize;
+        this.wheel = new HashedTimerWheel<>(tick, WHEEL_BUCKETS, clock.instant());
+        this.expired = meterRegistry.counter("doodle.slots.holds.expired");
+        Gauge.builder("doodle.slots.holds.scheduled", wheel, HashedTimerWheel::pending).register(meterRegistry);
+    }
+
+    @Transactional
+    public SlotHoldResponse hold(UUID userId, UUID slotId, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(maxTtl) > 0) {
+            throw new IllegalArgumentException("A hold must last between 1 second and " + maxTtl.toSeconds() + " seconds");
+        }
+        TimeSlot slot = getSlotWithOwnershipCheck(userId, slotId);
+        Instant now = clock.instant();
+        if (slot.getStatus() == SlotStatus.BUSY) {
+            throw new SlotConflictException("Slot is already busy");
+        }
+        if (slot.getStatus() == SlotStatus.HOLD && slot.getHoldExpiresAt().isAfter(now)) {
+            throw new SlotConflictException("Slot is already held");
+        }
+
+        // Only the caller learns the token, so only they can book or release the slot while it is held.
+        UUID token = UUID.randomUUID();
+        Instant expiresAt = now.plus(ttl);
+        slot.setStatus(SlotStatus.HOLD);
+        slot.setHoldExpiresAt(expiresAt);
+        slot.setHoldToken(token);
+        TimeSlot saved = slotRepository.save(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.saved(saved));
+        // If this transaction rolls back, the timer finds nothing to release.
+        wheel.schedule(slotId, expiresAt);
+        return new SlotHoldResponse(slotId, token, expiresAt);
+    }
+
+    @Transactional
+    public void release(UUID userId, UUID slotId, UUID holdToken) {
+        TimeSlot slot = getSlotWithOwnershipCheck(userId, slotId);
+        if (slot.getStatus() != SlotStatus.HOLD || !slot.getHoldToken().equals(holdToken)) {
+            throw new SlotConflictException("Slot is not held with this token");
+        }
+        slot.setStatus(SlotStatus.FREE);
+        slot.setHoldExpiresAt(null);
+        slot.setHoldToken(null);
+        eventPublisher.publishEvent(SlotChangedEvent.saved(slotRepository.save(slot)));
+    }
+
+    @Scheduled(fixedDelayString = "${doodle.slots.hold.tick:PT1S}")
+    public void expireDue() {
+        Instant now = clock.instant();
+        List<UUID> due = wheel.advance(now);
+        if (!due.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    published(slotRepository.releaseExpiredHolds(due, now)));
+        }
+    }
+
+    // Also catches a hold scheduled while its bucket was being advanced, which the wheel only sees a turn later.
+    @Scheduled(fixedDelayString = "${doodle.slots.hold.sweep-interval:PT1M}")
+    public void sweepExpired() {
+        Instant now = clock.instant();
+        Integer released;
+        do {
+            released = transactionTemplate.execute(status ->
+                    published(slotRepository.releaseExpiredHolds(now, sweepBatchSize)));
+        } while (released != null && released == sweepBatchSize);
+    }
+
+    // One release can span many calendars. Publishing in calendar order makes concurrent releases take the
+    // outbox's per-calendar locks in the same order, so they cannot deadlock.
+    private int published(List<ReleasedHold> released) {
+        for (ReleasedHold hold : released.stream().sorted(Comparator.comparing(ReleasedHold::calendarId)).toList()) {
+            eventPublisher.publishEvent(new SlotChangedEvent(
+                    SlotChangedEvent.Type.SAVED,
+                    hold.calendarId(),
+                    hold.slotId(),
+                    hold.startTime(),
+                    hold.endTime(),
+                    SlotStatus.FREE
+            ));
+        }
+        expired.increment(released.size());
+        return released.size();
+    }
+
+    private TimeSlot getSlotWithOwnershipCheck(UUID userId, UUID slotId) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        TimeSlot slot = slotRepository.findById(slotId)
+                .orElseThrow(() -> new ResourceNotFoundException("Time slot not found"));
+        if (!slot.getCalendarId().equals(calendarId)) {
+            throw new ForbiddenException("You do not have access to this slot");
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,256 @@
+package com.doodle.service;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.event.SlotChangedEvent;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.projection.SlotInterval;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Per-calendar copy-on-write arrays of epoch-microsecond intervals, sorted by start.
+// Slots in a calendar never overlap, so the end times are sorted as well and a
+// range lookup is a single binary search.
+@Component
+public class SlotIntervalIndex {
+
+    @FunctionalInterface
+    public interface IntervalVisitor {
+        void visit(long startMicros, long endMicros, SlotStatus status);
+    }
+
+    private static final SlotStatus[] STATUSES = SlotStatus.values();
+    private static final int WRITE_STRIPES = 1024;
+
+    private final TimeSlotRepository slotRepository;
+    private final boolean enabled;
+    private final long maxSlots;
+    private final long maxAgeNanos;
+    private final Map<UUID, CalendarIntervals> calendars = new LinkedHashMap<>(64, 0.75f, true);
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_STRIPES);
+    private final Counter loads;
+    private final Counter evictions;
+    private volatile long indexedSlots;
+
+    public SlotIntervalIndex(
+            TimeSlotRepository slotRepository,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.availability.index.enabled:false}") boolean enabled,
+            @Value("${doodle.availability.index.max-slots:2000000}") long maxSlots,
+            @Value("${doodle.availability.index.max-age:PT5M}") Duration maxAge
+    ) {
+        this.slotRepository = slotRepository;
+        this.enabled = enabled;
+        this.maxSlots = maxSlots;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.loads = meterRegistry.counter("doodle.slot.index.loads");
+        this.evictions = meterRegistry.counter("doodle.slot.index.evictions");
+        Gauge.builder("doodle.slot.index.slots", this, index -> index.indexedSlots).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void forEachInRange(UUID calendarId, Instant from, Instant to, IntervalVisitor visitor) {
+        intervalsFor(calendarId).forEachInRange(toMicros(from), toMicros(to), visitor);
+    }
+
+    @TransactionalEventListener
+    public void onSlotChanged(SlotChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        writeGenerations.incrementAndGet(stripe(event.calendarId()));
+        synchronized (this) {
+            CalendarIntervals current = calendars.get(event.calendarId());
+            if (current == null) {
+                return;
+            }
+            CalendarIntervals updated = event.type() == SlotChangedEvent.Type.DELETED
+                    ? current.without(event.slotId())
+                    : current.with(event.slotId(), toMicros(event.startTime()), toMicros(event.endTime()), event.status());
+            install(event.calendarId(), updated);
+        }
+    }
+
+    public static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    public static Instant toInstant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private CalendarIntervals intervalsFor(UUID calendarId) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            CalendarIntervals cached = calendars.get(calendarId);
+            if (cached != null && now - cached.loadedAt < maxAgeNanos) {
+                return cached;
+            }
+        }
+
+        // A write committed while we were reading may be missing from the snapshot,
+        // so only install it if no write touched this calendar's stripe meanwhile.
+        long generation = writeGenerations.get(stripe(calendarId));
+        CalendarIntervals loaded = CalendarIntervals.from(slotRepository.findIntervalsByCalendarId(calendarId), now);
+        loads.increment();
+        synchronized (this) {
+            if (writeGenerations.get(stripe(calendarId)) == generation && loaded.size() <= maxSlots) {
+                install(calendarId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void install(UUID calendarId, CalendarIntervals intervals) {
+        CalendarIntervals previous = calendars.put(calendarId, intervals);
+        long total = indexedSlots + intervals.size() - (previous == null ? 0 : previous.size());
+
+        Iterator<Map.Entry<UUID, CalendarIntervals>> eldest = calendars.entrySet().iterator();
+        while (total > maxSlots && eldest.hasNext()) {
+            Map.Entry<UUID, CalendarIntervals> entry = eldest.next();
+            if (entry.getKey().equals(calendarId)) {
+                continue;
+            }
+            total -= entry.getValue().size();
+            eldest.remove();
+            evictions.increment();
+        }
+        indexedSlots = total;
+    }
+
+    private static int stripe(UUID calendarId) {
+        return (calendarId.hashCode() & Integer.MAX_VALUE) % WRITE_STRIPES;
+    }
+
+    private static final class CalendarIntervals {
+
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] idHigh;
+        private final long[] idLow;
+        private final byte[] statuses;
+        private final long loadedAt;
+
+        private CalendarIntervals(long[] starts, long[] ends, long[] idHigh, long[] idLow, byte[] statuses, long loadedAt) {
+            this.starts = starts;
+            this.ends = ends;
+            this.idHigh = idHigh;
+            this.idLow = idLow;
+            this.statuses = statuses;
+            this.loadedAt = loadedAt;
+        }
+
+        static CalendarIntervals from(List<SlotInterval> slots, long loadedAt) {
+            int n = slots.size();
+            long[] starts = new long[n];
+            long[] ends = new long[n];
+            long[] idHigh = new long[n];
+            long[] idLow = new long[n];
+            byte[] statuses = new byte[n];
+            for (int i = 0; i < n; i++) {
+                SlotInterval slot = slots.get(i);
+                starts[i] = toMicros(slot.startTime());
+                ends[i] = toMicros(slot.endTime());
+                idHigh[i] = slot.id().getMostSignificantBits();
+                idLow[i] = slot.id().getLeastSignificantBits();
+                statuses[i] = (byte) slot.status().ordinal();
+            }
+            return new CalendarIntervals(starts, ends, idHigh, idLow, statuses, loadedAt);
+        }
+
+        int size() {
+            return starts.length;
+        }
+
+        void forEachInRange(long from, long to, IntervalVisitor visitor) {
+            for (int i = firstEndingAfter(from); i < starts.length && starts[i] < to; i++) {
+                visitor.visit(starts[i], ends[i], STATUSES[statuses[i]]);
+            }
+        }
+
+        CalendarIntervals with(UUID slotId, long start, long end, SlotStatus status) {
+            CalendarIntervals base = without(slotId);
+            int n = base.starts.length;
+            int at = Arrays.binarySearch(base.starts, start);
+            at = at < 0 ? -at - 1 : at;
+
+            long[] starts = insert(base.starts, at, start);
+            long[] ends = insert(base.ends, at, end);
+            long[] idHigh = insert(base.idHigh, at, slotId.getMostSignificantBits());
+            long[] idLow = insert(base.idLow, at, slotId.getLeastSignificantBits());
+            byte[] statuses = new byte[n + 1];
+            System.arraycopy(base.statuses, 0, statuses, 0, at);
+            statuses[at] = (byte) status.ordinal();
+            System.arraycopy(base.statuses, at, statuses, at + 1, n - at);
+            return new CalendarIntervals(starts, ends, idHigh, idLow, statuses, loadedAt);
+        }
+
+        CalendarIntervals without(UUID slotId) {
+            int n = starts.length;
+            for (int i = 0; i < n; i++) {
+                if (isSlot(i, slotId)) {
+                    byte[] remaining = new byte[n - 1];
+                    System.arraycopy(statuses, 0, remaining, 0, i);
+                    System.arraycopy(statuses, i + 1, remaining, i, n - i - 1);
+                    return new CalendarIntervals(
+                            remove(starts, i),
+                            remove(ends, i),
+                            remove(idHigh, i),
+                            remove(idLow, i),
+                            remaining,
+                            loadedAt
+                    );
+                }
+            }
+            return this;
+        }
+
+        private boolean isSlot(int i, UUID slotId) {
+            return idHigh[i] == slotId.getMostSignificantBits() && idLow[i] == slotId.getLeastSignificantBits();
+        }
+
+        private int firstEndingAfter(long micros) {
+            int low = 0;
+            int high = ends.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ends[mid] <= micros) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long[] insert(long[] source, int at, long value) {
+            long[] result = new long[source.length + 1];
+            System.arraycopy(source, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(source, at, result, at + 1, source.length - at);
+            return result;
+        }
+
+        private static long[] remove(long[] source, int at) {
+            long[] result = new long[source.length - 1];
+            System.arraycopy(source, 0, result, 0, at);
+            System.arraycopy(source, at + 1, result, at, source.length - at - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.doodle.service;
+
+import com.doodle.domain.SlotSeries;
+import com.doodle.domain.SlotSeriesException;
+import com.doodle.dto.request.CreateSlotSeriesRequest;
+import com.doodle.dto.response.SlotSeriesResponse;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.event.SeriesChangedEvent;
+import com.doodle.exception.ForbiddenException;
+import com.doodle.exception.ResourceNotFoundException;
+import com.doodle.exception.SlotConflictException;
+import com.doodle.mapper.SlotSeriesMapper;
+import com.doodle.repository.SlotSeriesRepository;
+import com.doodle.repository.TimeSlotRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@Transactional(readOnly = true)
+public class SlotSeriesService {
+
+    private static final Duration MAX_OCCURRENCE_LENGTH = Duration.ofDays(1);
+    private static final Comparator<SeriesOccurrence> BY_START =
+            Comparator.comparing(SeriesOccurrence::startTime).thenComparing(SeriesOccurrence::seriesId);
+
+    private final SlotSeriesRepository seriesRepository;
+    private final TimeSlotRepository slotRepository;
+    private final UserDirectoryCache userDirectory;
+    private final SlotSeriesMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxDays;
+    // Most calendars have no series, so slot writes can skip the occurrence check without a query.
+    private final Cache<UUID, Boolean> hasSeries;
+
+    public SlotSeriesService(
+            SlotSeriesRepository seriesRepository,
+            TimeSlotRepository slotRepository,
+            UserDirectoryCache userDirectory,
+            SlotSeriesMapper mapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${doodle.slots.series.max-days:1096}") int maxDays,
+            @Value("${doodle.slots.series.presence.max-size:10000}") long presenceMaxSize,
+            @Value("${doodle.slots.series.presence.ttl:PT1M}") Duration presenceTtl
+    ) {
+        this.seriesRepository = seriesRepository;
+        this.slotRepository = slotRepository;
+        this.userDirectory = userDirectory;
+        this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+        this.maxDays = maxDays;
+        this.hasSeries = Caffeine.newBuilder()
+                .maximumSize(presenceMaxSize)
+                .expireAfterWrite(presenceTtl)
+                .build();
+    }
+
+    @Transactional
+    public SlotSeriesResponse createSeries(UUID userId, CreateSlotSeriesRequest req) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        ZoneId zone = resolveZone(req.timeZone());
+        if (ChronoUnit.DAYS.between(req.startDate(), req.untilDate()) + 1 > maxDays) {
+            throw new IllegalArgumentException("A series can span at most " + maxDays + " days");
+        }
+
+        SlotSeries series = new SlotSeries();
+        series.setId(UUID.randomUUID());
+        series.setCalendarId(calendarId);
+        series.setFrequency(req.frequency());
+        series.setRepeatInterval(req.interval() == null ? 1 : req.interval());
+        series.setDaysOfWeek(req.daysOfWeek() == null ? Set.of() : req.daysOfWeek());
+        series.setStartDate(req.startDate());
+        series.setUntilDate(req.untilDate());
+        series.setStartTime(req.startTime());
+        series.setDurationMinutes(req.durationMinutes());
+        series.setTimeZone(zone.getId());
+
+        Set<Instant> exceptions = new HashSet<>();
+        if (req.exceptDates() != null) {
+            for (LocalDate date : req.exceptDates()) {
+                exceptions.add(ZonedDateTime.of(date, req.startTime(), zone).toInstant());
+            }
+        }
+
+        Instant from = req.startDate().atStartOfDay(zone).toInstant();
+        Instant to = req.untilDate().plusDays(2).atStartOfDay(zone).toInstant();
+        List<SeriesOccurrence> own = RecurrenceExpander.expand(series, from, to, exceptions);
+        if (own.isEmpty()) {
+            throw new IllegalArgumentException("Series has no occurrences");
+        }
+        for (int i = 1; i < own.size(); i++) {
+            if (own.get(i).startTime().isBefore(own.get(i - 1).endTime())) {
+                throw new IllegalArgumentException("Occurrences of the series overlap each other");
+            }
+        }
+
+        List<SlotWindow> taken = new ArrayList<>(slotRepository.findWindowsByCalendarAndRange(calendarId, from, to));
+        for (SeriesOccurrence occurrence : occurrences(List.of(calendarId), from, to)) {
+            taken.add(occurrence.toWindow());
+        }
+        Optional<SeriesOccurrence> overlap = firstOverlap(own, taken);
+        if (overlap.isPresent()) {
+            throw new SlotConflictException(
+                    "Series occurrence at " + overlap.get().startTime() + " overlaps with an existing slot");
+        }
+
+        SlotSeries saved = seriesRepository.saveAndFlush(series);
+        for (Instant exception : exceptions) {
+            seriesRepository.addException(saved.getId(), exception);
+        }
+        forgetPresenceAfterCommit(calendarId);
+        eventPublisher.publishEvent(new SeriesChangedEvent(SeriesChangedEvent.Type.CREATED, calendarId, saved.getId(),
+                own.getFirst().startTime(), own.getLast().endTime()));
+        return mapper.toResponse(saved);
+    }
+
+    public List<SlotSeriesResponse> getSeries(UUID userId) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        return seriesRepository.findByCalendarIdOrderByStartDate(calendarId).stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteSeries(UUID userId, UUID seriesId) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        SlotSeries series = getSeriesWithOwnershipCheck(calendarId, seriesId);
+        seriesRepository.delete(series);
+        forgetPresenceAfterCommit(calendarId);
+        ZoneId zone = ZoneId.of(series.getTimeZone());
+        eventPublisher.publishEvent(new SeriesChangedEvent(SeriesChangedEvent.Type.DELETED, calendarId, seriesId,
+                series.getStartDate().atStartOfDay(zone).toInstant(),
+                series.getUntilDate().plusDays(2).atStartOfDay(zone).toInstant()));
+    }
+
+    @Transactional
+    public void skipOccurrence(UUID userId, UUID seriesId, Instant occurrenceStart) {
+        SeriesOccurrence skipped = claimOccurrence(userDirectory.requireCalendarId(userId), seriesId, occurrenceStart);
+        eventPublisher.publishEvent(new SeriesChangedEvent(SeriesChangedEvent.Type.OCCURRENCE_SKIPPED,
+                skipped.calendarId(), seriesId, skipped.startTime(), skipped.endTime()));
+    }
+
+    // Records the occurrence as an exception so it is no longer expanded. Only one caller can claim it.
+    @Transactional
+    public SeriesOccurrence claimOccurrence(UUID calendarId, UUID seriesId, Instant occurrenceStart) {
+        SlotSeries series = getSeriesWithOwnershipCheck(calendarId, seriesId);
+        if (occurrenceStart == null || !RecurrenceExpander.isOccurrence(series, occurrenceStart)) {
+            throw new ResourceNotFoundException("Series has no occurrence at " + occurrenceStart);
+        }
+        if (seriesRepository.addException(seriesId, occurrenceStart) == 0) {
+            throw new SlotConflictException("Occurrence was already booked or removed");
+        }
+        return new SeriesOccurrence(
+                seriesId,
+                calendarId,
+                occurrenceStart,
+                occurrenceStart.plus(Duration.ofMinutes(series.getDurationMinutes()))
+        );
+    }
+
+    // Unbooked occurrences of all series on the given calendars that overlap [from, to), sorted by start.
+    public List<SeriesOccurrence> occurrences(Collection<UUID> calendarIds, Instant from, Instant to) {
+        if (calendarIds.isEmpty()) {
+            return List.of();
+        }
+        // Series dates are local to their zone; widen by a day on each side to cover any offset.
+        LocalDate fromDate = from.minus(MAX_OCCURRENCE_LENGTH).atZone(ZoneOffset.UTC).toLocalDate().minusDays(1);
+        LocalDate toDate = to.atZone(ZoneOffset.UTC).toLocalDate().plusDays(1);
+        List<SlotSeries> active = seriesRepository.findActiveInRange(calendarIds, fromDate, toDate);
+        if (active.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Set<Instant>> exceptions = new HashMap<>();
+        for (SlotSeriesException exception : seriesRepository.findExceptionsInRange(
+                active.stream().map(SlotSeries::getId).toList(), from.minus(MAX_OCCURRENCE_LENGTH), to)) {
+            exceptions.computeIfAbsent(exception.getSeriesId(), id -> new HashSet<>())
+                    .add(exception.getOccurrenceStart());
+        }
+
+        List<SeriesOccurrence> occurrences = new ArrayList<>();
+        for (SlotSeries series : active) {
+            occurrences.addAll(RecurrenceExpander.expand(
+                    series, from, to, exceptions.getOrDefault(series.getId(), Set.of())));
+        }
+        occurrences.sort(BY_START);
+        return occurrences;
+    }
+
+    // A series created on another node is seen here once the cached "no series" answer expires.
+    public boolean overlapsOccurrence(UUID calendarId, Instant start, Instant end) {
+        if (!hasSeries.get(calendarId, seriesRepository::existsByCalendarId)) {
+            return false;
+        }
+        return !occurrences(List.of(calendarId), start, end).isEmpty();
+    }
+
+    private void forgetPresenceAfterCommit(UUID calendarId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hasSeries.invalidate(calendarId);
+            }
+        });
+    }
+
+    private SlotSeries getSeriesWithOwnershipCheck(UUID calendarId, UUID seriesId) {
+        SlotSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new ResourceNotFoundException("Slot series not found"));
+        if (!series.getCalendarId().equals(calendarId)) {
+            throw new ForbiddenException("You do not own this slot series");
+        }
+        return series;
+    }
+
+    private static Optional<SeriesOccurrence> firstOverlap(List<SeriesOccurrence> candidates, List<SlotWindow> taken) {
+        List<SlotWindow> busy = RecurrenceExpander.union(taken);
+        int cursor = 0;
+        for (SeriesOccurrence candidate : candidates) {
+            while (cursor < busy.size() && !busy.get(cursor).endTime().isAfter(candidate.startTime())) {
+                cursor++;
+            }
+            if (cursor < busy.size() && busy.get(cursor).startTime().isBefore(candidate.endTime())) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ZoneId resolveZone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException("Unknown timeZone: " + timeZone);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.doodle.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    static <T> void merge(
+            Iterator<? extends T> left,
+            Iterator<? extends T> right,
+            Comparator<? super T> order,
+            Consumer<? super T> sink
+    ) {
+        T nextRight = right.hasNext() ? right.next() : null;
+        while (left.hasNext()) {
+            T nextLeft = left.next();
+            while (nextRight != null && order.compare(nextRight, nextLeft) < 0) {
+                sink.accept(nextRight);
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+            sink.accept(nextLeft);
+        }
+        while (nextRight != null) {
+            sink.accept(nextRight);
+            nextRight = right.hasNext() ? right.next() : null;
+        }
+    }
+
+    static <T> List<T> merge(List<? extends T> left, List<? extends T> right, Comparator<? super T> order) {
+        if (right.isEmpty()) {
+            return new ArrayList<>(left);
+        }
+        List<T> merged = new ArrayList<>(left.size() + right.size());
+        merge(left.iterator(), right.iterator(), order, merged::add);
+        return merged;
+    }
+}
@@ -1,24 +1,46 @@
 package com.doodle.service;
 
-import com.doodle.domain.Calendar;
 import com.doodle.domain.SlotStatus;
 import com.doodle.domain.TimeSlot;
+import com.doodle.dto.request.BulkCreateSlotsRequest;
 import com.doodle.dto.request.CreateSlotRequest;
 import com.doodle.dto.request.UpdateSlotRequest;
+import com.doodle.dto.request.WeeklyRecurrenceRequest;
+import com.doodle.dto.response.BulkCreateSlotsResponse;
+import com.doodle.dto.response.SlotConflictResponse;
+import com.doodle.dto.response.SlotWindow;
 import com.doodle.dto.response.TimeSlotResponse;
+import com.doodle.event.SlotChangedEvent;
 import com.doodle.exception.ForbiddenException;
 import com.doodle.exception.ResourceNotFoundException;
 import com.doodle.exception.SlotConflictException;
 import com.doodle.mapper.TimeSlotMapper;
-import com.doodle.repository.CalendarRepository;
 import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.UserAgendaRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,45 +48,186 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TimeSlotService {
 
+    private static final String OVERLAP_MESSAGE = "Time slot overlaps with an existing slot";
+    private static final Comparator<TimeSlotResponse> BY_START = Comparator.comparing(TimeSlotResponse::startTime);
+
     private final TimeSlotRepository slotRepository;
-    private final CalendarRepository calendarRepository;
+    private final UserAgendaRepository agendaRepository;
+    private final UserDirectoryCache userDirectory;
+    private final SlotSeriesService seriesService;
+    private final ListingCountEstimator countEstimator;
     private final TimeSlotMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
     private final Counter slotsCreated;
+    private final int maxBulkItems;
 
     public TimeSlotService(
             TimeSlotRepository slotRepository,
-            CalendarRepository calendarRepository,
+            UserAgendaRepository agendaRepository,
+            UserDirectoryCache userDirectory,
+            SlotSeriesService seriesService,
+            ListingCountEstimator countEstimator,
             TimeSlotMapper mapper,
-            MeterRegistry meterRegistry
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.slots.bulk.max-items:1000}") int maxBulkItems
     ) {
         this.slotRepository = slotRepository;
-        this.calendarRepository = calendarRepository;
+        this.agendaRepository = agendaRepository;
+        this.userDirectory = userDirectory;
+        this.seriesService = seriesService;
+        this.countEstimator = countEstimator;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
         this.slotsCreated = meterRegistry.counter("doodle.slots.created");
+        this.maxBulkItems = maxBulkItems;
     }
 
     @Transactional
     public TimeSlotResponse createSlot(UUID userId, CreateSlotRequest req) {
-        Calendar calendar = getCalendarForUser(userId);
+        UUID calendarId = userDirectory.requireCalendarId(userId);
         validateSlotRange(req.startTime(), req.endTime());
-        validateNoOverlap(calendar.getId(), req.startTime(), req.endTime(), null);
+        validateNoOverlap(calendarId, req.startTime(), req.endTime());
 
         TimeSlot slot = new TimeSlot();
         slot.setId(UUID.randomUUID());
-        slot.setCalendarId(calendar.getId());
+        slot.setCalendarId(calendarId);
         slot.setStartTime(req.startTime());
         slot.setEndTime(req.endTime());
         slot.setStatus(SlotStatus.FREE);
-        TimeSlot saved = slotRepository.save(slot);
+        TimeSlot saved = saveAndFlush(slot);
         slotsCreated.increment();
+        eventPublisher.publishEvent(SlotChangedEvent.saved(saved));
         return mapper.toResponse(saved);
     }
 
-    public Page<TimeSlotResponse> getSlotsInRange(UUID userId, Instant from, Instant to, Pageable pageable) {
-        Calendar calendar = getCalendarForUser(userId);
+    @Transactional
+    public BulkCreateSlotsResponse createSlots(UUID userId, BulkCreateSlotsRequest req) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        List<BulkItem> items = expand(req);
+        if (items.size() > maxBulkItems) {
+            throw new IllegalArgumentException("At most " + maxBulkItems + " slots can be created per call");
+        }
+        if (items.isEmpty()) {
+            return new BulkCreateSlotsResponse(List.of(), List.of());
+        }
+        for (BulkItem item : items) {
+            validateSlotRange(item.startTime(), item.endTime());
+        }
+
+        List<BulkItem> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(BulkItem::startTime).thenComparing(BulkItem::index));
+        Instant rangeStart = sorted.getFirst().startTime();
+        Instant rangeEnd = sorted.stream().map(BulkItem::endTime).max(Comparator.naturalOrder()).orElseThrow();
+        List<SlotWindow> taken = new ArrayList<>(
+                slotRepository.findWindowsByCalendarAndRange(calendarId, rangeStart, rangeEnd));
+        for (SeriesOccurrence occurrence : seriesService.occurrences(List.of(calendarId), rangeStart, rangeEnd)) {
+            taken.add(occurrence.toWindow());
+        }
+        // Disjoint and sorted by start, so the ends are sorted too.
+        List<SlotWindow> existing = RecurrenceExpander.union(taken);
+        List<TimeSlot> accepted = new ArrayList<>();
+        List<SlotConflictResponse> conflicts = new ArrayList<>();
+        int cursor = 0;
+        Instant acceptedEnd = Instant.MIN;
+        for (BulkItem item : sorted) {
+            while (cursor < existing.size() && !existing.get(cursor).endTime().isAfter(item.startTime())) {
+                cursor++;
+            }
+            if (cursor < existing.size() && existing.get(cursor).startTime().isBefore(item.endTime())) {
+                conflicts.add(item.conflict("Overlaps with an existing slot"));
+            } else if (item.startTime().isBefore(acceptedEnd)) {
+                conflicts.add(item.conflict("Overlaps with another slot in this request"));
+            } else {
+                TimeSlot slot = new TimeSlot();
+                slot.setId(UUID.randomUUID());
+                slot.setCalendarId(calendarId);
+                slot.setStartTime(item.startTime());
+                slot.setEndTime(item.endTime());
+                slot.setStatus(SlotStatus.FREE);
+                accepted.add(slot);
+                acceptedEnd = item.endTime();
+            }
+        }
+
+        List<TimeSlot> saved = slotRepository.saveAll(accepted);
+        flush();
+        slotsCreated.increment(saved.size());
+        saved.forEach(slot -> eventPublisher.publishEvent(SlotChangedEvent.saved(slot)));
+        conflicts.sort(Comparator.comparingInt(SlotConflictResponse::index));
+        return new BulkCreateSlotsResponse(saved.stream().map(mapper::toResponse).toList(), conflicts);
+    }
+
+    public Slice<TimeSlotResponse> getSlotsInRange(
+            UUID userId,
+            Instant from,
+            Instant to,
+            Pageable pageable,
+            TotalsMode totals
+    ) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        validateWindow(from, to);
+        List<TimeSlotResponse> occurrences = seriesService.occurrences(List.of(calendarId), from, to).stream()
+                .map(SeriesOccurrence::toResponse)
+                .toList();
+        if (occurrences.isEmpty() || pageable.isUnpaged()) {
+            return findSlots(calendarId, from, to, pageable, totals);
+        }
+
+        // Series occurrences are interleaved by start time, so the page is cut from the merged head.
+        int offset = Math.toIntExact(pageable.getOffset());
+        int headSize = offset + pageable.getPageSize();
+        Slice<TimeSlotResponse> head = findSlots(calendarId, from, to, PageRequest.of(0, headSize), totals);
+        List<TimeSlotResponse> merged = SortedMerge.merge(head.getContent(), occurrences, BY_START);
+        List<TimeSlotResponse> content = offset >= merged.size()
+                ? List.of()
+                : merged.subList(offset, Math.min(merged.size(), headSize));
+        if (head instanceof Page<TimeSlotResponse> headPage) {
+            return new PageImpl<>(content, pageable, headPage.getTotalElements() + occurrences.size());
+        }
+        return new SliceImpl<>(content, pageable, head.hasNext() || merged.size() > headSize);
+    }
+
+    public KeysetPage<TimeSlotResponse> getSlotsAfter(UUID userId, Instant from, Instant to, String cursor, int size) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
         validateWindow(from, to);
-        return slotRepository.findByCalendarAndRange(calendar.getId(), from, to, pageable)
-                .map(mapper::toResponse);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<TimeSlotResponse> slots = after == null
+                ? slotRepository.findFirstResponsesByCalendarAndRange(calendarId, from, to, limit)
+                : slotRepository.findResponsesByCalendarAndRangeAfter(
+                        calendarId, from, to, after.startTime(), after.id(), limit);
+        // Occurrences never share a start with a slot on the same calendar, so the start alone positions them.
+        // Only the stretch this page can reach is expanded: from the cursor up to the first slot past the page.
+        Instant lower = after == null ? from : after.startTime();
+        Instant upper = slots.size() > size ? slots.getLast().startTime() : to;
+        List<SeriesOccurrence> expanded = lower.isBefore(upper)
+                ? seriesService.occurrences(List.of(calendarId), lower, upper)
+                : List.of();
+        List<TimeSlotResponse> occurrences = expanded.stream()
+                .filter(occurrence -> after == null || occurrence.startTime().isAfter(after.startTime()))
+                .limit(size + 1)
+                .map(SeriesOccurrence::toResponse)
+                .toList();
+        List<TimeSlotResponse> merged = SortedMerge.merge(slots, occurrences, BY_START);
+        if (merged.size() <= size) {
+            return new KeysetPage<>(merged, null);
+        }
+        List<TimeSlotResponse> content = merged.subList(0, size);
+        TimeSlotResponse last = content.getLast();
+        UUID lastId = last.id() != null ? last.id() : last.seriesId();
+        return new KeysetPage<>(content, new KeysetCursor(last.startTime(), lastId).encode());
+    }
+
+    public void streamSlotsInRange(UUID userId, Instant from, Instant to, Consumer<TimeSlotResponse> sink) {
+        UUID calendarId = userDirectory.requireCalendarId(userId);
+        validateWindow(from, to);
+        List<TimeSlotResponse> occurrences = seriesService.occurrences(List.of(calendarId), from, to).stream()
+                .map(SeriesOccurrence::toResponse)
+                .toList();
+        try (Stream<TimeSlotResponse> slots = slotRepository.streamByCalendarAndRange(calendarId, from, to)) {
+            SortedMerge.merge(slots.iterator(), occurrences.iterator(), BY_START, sink);
+        }
     }
 
     public TimeSlotResponse getSlot(UUID userId, UUID slotId) {
@@ -75,20 +238,31 @@ public class TimeSlotService {
     public TimeSlotResponse updateSlot(UUID userId, UUID slotId, UpdateSlotRequest req) {
         TimeSlot slot = getSlotWithOwnershipCheck(userId, slotId);
 
-        if (req.startTime() != null || req.endTime() != null) {
+        boolean timesChanged = req.startTime() != null || req.endTime() != null;
+        if (timesChanged) {
             Instant newStart = req.startTime() != null ? req.startTime() : slot.getStartTime();
             Instant newEnd = req.endTime() != null ? req.endTime() : slot.getEndTime();
             validateSlotRange(newStart, newEnd);
-            validateNoOverlap(slot.getCalendarId(), newStart, newEnd, slotId);
+            validateNoOverlap(slot.getCalendarId(), newStart, newEnd);
             slot.setStartTime(newStart);
             slot.setEndTime(newEnd);
         }
 
         if (req.status() != null) {
+            if (req.status() == SlotStatus.HOLD) {
+                throw new IllegalArgumentException("Use POST /api/slots/{id}/hold to hold a slot");
+            }
             slot.setStatus(req.status());
+            slot.setHoldExpiresAt(null);
+            slot.setHoldToken(null);
         }
 
-        return mapper.toResponse(slotRepository.save(slot));
+        TimeSlot saved = timesChanged ? saveAndFlush(slot) : slotRepository.save(slot);
+        if (timesChanged && saved.getStatus() == SlotStatus.BUSY) {
+            agendaRepository.moveSlot(slotId, saved.getStartTime(), saved.getEndTime());
+        }
+        eventPublisher.publishEvent(SlotChangedEvent.saved(saved));
+        return mapper.toResponse(saved);
     }
 
     @Transactional
@@ -98,18 +272,69 @@ public class TimeSlotService {
             throw new SlotConflictException("Cannot delete a busy slot. Cancel the meeting first.");
         }
         slotRepository.delete(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.deleted(slot));
+    }
+
+    private Slice<TimeSlotResponse> findSlots(
+            UUID calendarId,
+            Instant from,
+            Instant to,
+            Pageable pageable,
+            TotalsMode totals
+    ) {
+        return switch (totals) {
+            case EXACT -> slotRepository.findResponsesByCalendarAndRange(calendarId, from, to, pageable);
+            case NONE -> slotRepository.findResponseSliceByCalendarAndRange(calendarId, from, to, pageable);
+            case ESTIMATE -> ListingCountEstimator.withEstimate(
+                    slotRepository.findResponseSliceByCalendarAndRange(calendarId, from, to, pageable),
+                    countEstimator.estimateSlots(calendarId, from, to));
+        };
+    }
+
+    private List<BulkItem> expand(BulkCreateSlotsRequest req) {
+        List<BulkItem> items = new ArrayList<>();
+        if (req.slots() != null) {
+            for (CreateSlotRequest slot : req.slots()) {
+                items.add(new BulkItem(items.size(), slot.startTime(), slot.endTime()));
+            }
+        }
+
+        WeeklyRecurrenceRequest recurrence = req.recurrence();
+        if (recurrence != null) {
+            ZoneId zone = resolveZone(recurrence.timeZone());
+            for (LocalDate date = recurrence.fromDate(); !date.isAfter(recurrence.untilDate()); date = date.plusDays(1)) {
+                if (!recurrence.daysOfWeek().contains(date.getDayOfWeek())) {
+                    continue;
+                }
+                if (items.size() > maxBulkItems) {
+                    break;
+                }
+                items.add(new BulkItem(
+                        items.size(),
+                        date.atTime(recurrence.startTime()).atZone(zone).toInstant(),
+                        date.atTime(recurrence.endTime()).atZone(zone).toInstant()
+                ));
+            }
+        }
+        return items;
     }
 
-    private Calendar getCalendarForUser(UUID userId) {
-        return calendarRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Calendar not found for user"));
+    private ZoneId resolveZone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException("Unknown timeZone: " + timeZone);
+        }
     }
 
     private TimeSlot getSlotWithOwnershipCheck(UUID userId, UUID slotId) {
-        Calendar calendar = getCalendarForUser(userId);
+        UUID calendarId = userDirectory.requireCalendarId(userId);
         TimeSlot slot = slotRepository.findById(slotId)
                 .orElseThrow(() -> new ResourceNotFoundException("Time slot not found"));
-        if (!slot.getCalendarId().equals(calendar.getId())) {
+        if (!slot.getCalendarId().equals(calendarId)) {
             throw new ForbiddenException("You do not have access to this slot");
         }
         return slot;
@@ -128,9 +353,38 @@ public class TimeSlotService {
         }
     }
 
-    private void validateNoOverlap(UUID calendarId, Instant start, Instant end, UUID excludeId) {
-        if (slotRepository.existsOverlapping(calendarId, start, end, excludeId)) {
-            throw new SlotConflictException("Time slot overlaps with an existing slot");
+    // Overlaps between concrete slots are rejected by excl_slots_calendar_overlap on flush.
+    // Series live outside the table, so their occurrences are checked here.
+    private void validateNoOverlap(UUID calendarId, Instant start, Instant end) {
+        if (seriesService.overlapsOccurrence(calendarId, start, end)) {
+            throw new SlotConflictException(OVERLAP_MESSAGE);
+        }
+    }
+
+    private TimeSlot saveAndFlush(TimeSlot slot) {
+        try {
+            return slotRepository.saveAndFlush(slot);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateOverlap(ex);
+        }
+    }
+
+    private void flush() {
+        try {
+            slotRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw translateOverlap(ex);
+        }
+    }
+
+    private RuntimeException translateOverlap(DataIntegrityViolationException ex) {
+        return OverlapConstraint.isViolation(ex) ? new SlotConflictException(OVERLAP_MESSAGE) : ex;
+    }
+
+    private record BulkItem(int index, Instant startTime, Instant endTime) {
+
+        SlotConflictResponse conflict(String reason) {
+            return new SlotConflictResponse(index, startTime, endTime, reason);
         }
     }
 }
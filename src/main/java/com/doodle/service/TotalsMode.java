@@ -0,0 +1,16 @@
+package com.doodle.service;
+
+import java.util.Locale;
+
+/**
+ * How a paged listing reports its total: not at all, from the planner's row estimate, or from a COUNT query.
+ */
+public enum TotalsMode {
+    NONE,
+    ESTIMATE,
+    EXACT;
+
+    public static TotalsMode fromParam(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,7 +1,8 @@
 package com.doodle.service;
 
-import com.doodle.domain.User;
 import com.doodle.repository.UserRepository;
+import com.doodle.repository.projection.UserCredentials;
+import com.doodle.security.AuthenticatedUser;
 import java.util.Locale;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -20,12 +21,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         String normalizedEmail = username.trim().toLowerCase(Locale.ROOT);
-        User user = userRepository.findByEmail(normalizedEmail)
+        UserCredentials credentials = userRepository.findCredentialsByEmail(normalizedEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + normalizedEmail));
 
-        return org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities("ROLE_USER")
-                .build();
+        return new AuthenticatedUser(
+                credentials.userId(),
+                credentials.calendarId(),
+                credentials.email(),
+                credentials.passwordHash()
+        );
     }
 }
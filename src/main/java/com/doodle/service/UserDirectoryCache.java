@@ -0,0 +1,82 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.User;
+import com.doodle.exception.ResourceNotFoundException;
+import com.doodle.repository.CalendarRepository;
+import com.doodle.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserDirectoryCache {
+
+    private final CalendarRepository calendarRepository;
+    private final UserRepository userRepository;
+    private final Cache<UUID, UUID> calendarIdsByUser;
+    private final Cache<String, UUID> userIdsByEmail;
+
+    public UserDirectoryCache(
+            CalendarRepository calendarRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${doodle.cache.user-directory.max-size:10000}") long maxSize,
+            @Value("${doodle.cache.user-directory.ttl:PT10M}") Duration ttl
+    ) {
+        this.calendarRepository = calendarRepository;
+        this.userRepository = userRepository;
+        this.calendarIdsByUser = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, calendarIdsByUser, "doodle.calendarsByUser");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "doodle.usersByEmail");
+    }
+
+    public UUID requireCalendarId(UUID userId) {
+        return findCalendarId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Calendar not found for user"));
+    }
+
+    public Optional<UUID> findCalendarId(UUID userId) {
+        return Optional.ofNullable(calendarIdsByUser.get(userId, id -> calendarRepository.findByUserId(id)
+                .map(Calendar::getId)
+                .orElse(null)));
+    }
+
+    public Map<UUID, UUID> requireCalendarIds(Collection<UUID> userIds) {
+        Map<UUID, UUID> calendarIds = calendarIdsByUser.getAll(userIds, missing -> calendarRepository
+                .findByUserIdIn(new HashSet<>(missing)).stream()
+                .collect(Collectors.toMap(Calendar::getUserId, Calendar::getId)));
+        if (calendarIds.size() != new HashSet<>(userIds).size()) {
+            Set<UUID> missing = new HashSet<>(userIds);
+            missing.removeAll(calendarIds.keySet());
+            throw new ResourceNotFoundException("Calendar not found for users: " + missing);
+        }
+        return calendarIds;
+    }
+
+    public Optional<UUID> findUserId(String normalizedEmail) {
+        return Optional.ofNullable(userIdsByEmail.get(normalizedEmail, email -> userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElse(null)));
+    }
+}
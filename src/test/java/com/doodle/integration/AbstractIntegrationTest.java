@@ -3,6 +3,7 @@ package com.doodle.integration;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -44,6 +45,7 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.datasource.username", POSTGRES::getUsername);
         registry.add("spring.datasource.password", POSTGRES::getPassword);
         registry.add("spring.liquibase.contexts", () -> "dev");
+        registry.add("doodle.security.token.secret", () -> "integration-test-token-secret-0123456789");
     }
 
     protected record TestUser(String email, String password, UUID id) {
@@ -61,6 +63,36 @@ public abstract class AbstractIntegrationTest {
         }
     }
 
+    protected List<JsonNode> readNdjsonBody(ResponseEntity<String> response) {
+        List<JsonNode> lines = new ArrayList<>();
+        if (response.getBody() == null) {
+            return lines;
+        }
+        try {
+            for (String line : response.getBody().split("\n")) {
+                if (!line.isBlank()) {
+                    lines.add(objectMapper.readTree(line));
+                }
+            }
+            return lines;
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to parse NDJSON response body", ex);
+        }
+    }
+
+    protected ResponseEntity<String> getNdjson(String path, TestUser user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        headers.setBasicAuth(user.email(), user.password(), StandardCharsets.UTF_8);
+        try {
+            return restTemplate.exchange(url(path), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        } catch (HttpStatusCodeException ex) {
+            return ResponseEntity.status(ex.getStatusCode())
+                    .headers(ex.getResponseHeaders())
+                    .body(ex.getResponseBodyAsString());
+        }
+    }
+
     protected ResponseEntity<String> get(String path, TestUser user) {
         return exchange(HttpMethod.GET, path, null, user);
     }
@@ -78,8 +110,17 @@ public abstract class AbstractIntegrationTest {
     }
 
     protected ResponseEntity<String> exchange(HttpMethod method, String path, Object body, TestUser user) {
+        return exchange(method, path, body, user, new HttpHeaders());
+    }
+
+    protected ResponseEntity<String> exchange(
+            HttpMethod method,
+            String path,
+            Object body,
+            TestUser user,
+            HttpHeaders headers
+    ) {
         try {
-            HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             if (user != null) {
                 headers.setBasicAuth(user.email(), user.password(), StandardCharsets.UTF_8);
@@ -0,0 +1,78 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+
+class AuthIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void issueToken_withBasicCredentials_returnsBearerToken() {
+        TestUser user = registerUser("auth-issue");
+
+        ResponseEntity<String> response = post("/api/auth/token", null, user);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode body = readJsonBody(response);
+        assertThat(body.get("tokenType").asText()).isEqualTo("Bearer");
+        assertThat(body.get("accessToken").asText()).isNotBlank();
+        assertThat(body.get("expiresAt").asText()).isNotBlank();
+    }
+
+    @Test
+    void bearerToken_authenticatesProtectedEndpoints() {
+        TestUser user = registerUser("auth-bearer");
+        String token = readJsonBody(post("/api/auth/token", null, user)).get("accessToken").asText();
+
+        ResponseEntity<String> response = getWithBearer(
+                "/api/slots?from=2026-04-01T00:00:00Z&to=2026-04-02T00:00:00Z&page=0&size=20",
+                token
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void bearerToken_whenTampered_returnsUnauthorized() {
+        TestUser user = registerUser("auth-tampered");
+        String token = readJsonBody(post("/api/auth/token", null, user)).get("accessToken").asText();
+
+        ResponseEntity<String> response = getWithBearer(
+                "/api/slots?from=2026-04-01T00:00:00Z&to=2026-04-02T00:00:00Z&page=0&size=20",
+                token + "x"
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void issueToken_withBearerToken_returnsForbidden() {
+        TestUser user = registerUser("auth-refresh");
+        String token = readJsonBody(post("/api/auth/token", null, user)).get("accessToken").asText();
+
+        ResponseEntity<String> response = exchangeWithBearer(HttpMethod.POST, "/api/auth/token", token);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private ResponseEntity<String> getWithBearer(String path, String token) {
+        return exchangeWithBearer(HttpMethod.GET, path, token);
+    }
+
+    private ResponseEntity<String> exchangeWithBearer(HttpMethod method, String path, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        try {
+            return restTemplate.exchange(url(path), method, new HttpEntity<>(headers), String.class);
+        } catch (HttpStatusCodeException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getResponseBodyAsString());
+        }
+    }
+}
@@ -3,11 +3,20 @@ package com.doodle.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 class AvailabilityIntegrationTest extends AbstractIntegrationTest {
@@ -41,6 +50,147 @@ class AvailabilityIntegrationTest extends AbstractIntegrationTest {
         assertThat(statuses).contains("FREE", "BUSY");
     }
 
+    @Test
+    void getAvailability_withNdjsonAccept_streamsOneWindowPerLine() {
+        TestUser targetUser = registerUser("availability-stream-target");
+        TestUser requester = registerUser("availability-stream-requester");
+
+        createSlot(targetUser, "2026-04-20T09:00:00Z", "2026-04-20T10:00:00Z");
+        createSlot(targetUser, "2026-04-20T11:00:00Z", "2026-04-20T12:00:00Z");
+        createSlot(targetUser, "2026-04-20T13:00:00Z", "2026-04-20T14:00:00Z");
+
+        ResponseEntity<String> response = getNdjson(
+                "/api/availability?userId=" + targetUser.id()
+                        + "&from=2026-04-20T00:00:00Z&to=2026-04-21T00:00:00Z",
+                requester
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        List<JsonNode> windows = readNdjsonBody(response);
+        assertThat(windows).hasSize(3);
+        assertThat(Instant.parse(windows.get(0).get("startTime").asText()))
+                .isEqualTo(Instant.parse("2026-04-20T09:00:00Z"));
+        assertThat(windows.get(2).get("status").asText()).isEqualTo("FREE");
+    }
+
+    @Test
+    void getAvailability_withNdjsonAcceptAndInvalidRange_returnsJsonError() {
+        TestUser user = registerUser("availability-stream-invalid");
+
+        ResponseEntity<String> response = getNdjson(
+                "/api/availability?userId=" + user.id()
+                        + "&from=2026-04-15T12:00:00Z&to=2026-04-15T09:00:00Z",
+                user
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(readJsonBody(response).get("message").asText()).contains("to must be after from");
+    }
+
+    @Test
+    void getAvailability_withOctetStreamAccept_returnsFreeBusyBitmap() {
+        TestUser targetUser = registerUser("availability-bitmap-target");
+        TestUser requester = registerUser("availability-bitmap-requester");
+
+        createSlot(targetUser, "2026-04-21T09:00:00Z", "2026-04-21T09:30:00Z");
+        UUID busySlot = createSlot(targetUser, "2026-04-21T09:30:00Z", "2026-04-21T10:00:00Z");
+        assertThat(scheduleMeeting(targetUser, busySlot, "bitmap-busy").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_OCTET_STREAM));
+        headers.setBasicAuth(requester.email(), requester.password(), StandardCharsets.UTF_8);
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                url("/api/availability?userId=" + targetUser.id()
+                        + "&from=2026-04-21T09:00:00Z&to=2026-04-21T11:00:00Z"),
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                byte[].class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Availability-Quantum-Minutes")).isEqualTo("15");
+        assertThat(response.getBody()).containsExactly((byte) 0b01011010, (byte) 0);
+    }
+
+    @Test
+    void getCommonAvailability_returnsWindowsFreeForAllUsers() {
+        TestUser alice = registerUser("common-alice");
+        TestUser bob = registerUser("common-bob");
+
+        createSlot(alice, "2026-04-16T09:00:00Z", "2026-04-16T12:00:00Z");
+        createSlot(bob, "2026-04-16T10:00:00Z", "2026-04-16T11:00:00Z");
+        createSlot(bob, "2026-04-16T11:30:00Z", "2026-04-16T11:45:00Z");
+
+        ResponseEntity<String> response = get(
+                "/api/availability/common?userIds=" + alice.id() + "," + bob.id()
+                        + "&from=2026-04-16T00:00:00Z&to=2026-04-17T00:00:00Z&durationMinutes=30",
+                alice
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode windows = readJsonBody(response).get("windows");
+        assertThat(windows.size()).isEqualTo(1);
+        assertThat(Instant.parse(windows.get(0).get("startTime").asText()))
+                .isEqualTo(Instant.parse("2026-04-16T10:00:00Z"));
+        assertThat(Instant.parse(windows.get(0).get("endTime").asText()))
+                .isEqualTo(Instant.parse("2026-04-16T11:00:00Z"));
+    }
+
+    @Test
+    void getCommonAvailability_withUnknownUser_returnsNotFound() {
+        TestUser user = registerUser("common-unknown");
+
+        ResponseEntity<String> response = get(
+                "/api/availability/common?userIds=" + user.id() + "," + UUID.randomUUID()
+                        + "&from=2026-04-16T00:00:00Z&to=2026-04-17T00:00:00Z",
+                user
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getBatchAvailability_returnsWindowsGroupedByUser() {
+        TestUser alice = registerUser("batch-alice");
+        TestUser bob = registerUser("batch-bob");
+        TestUser carol = registerUser("batch-carol");
+
+        createSlot(alice, "2026-04-23T09:00:00Z", "2026-04-23T10:00:00Z");
+        createSlot(alice, "2026-04-23T11:00:00Z", "2026-04-23T12:00:00Z");
+        createSlot(bob, "2026-04-23T09:00:00Z", "2026-04-23T10:00:00Z");
+
+        ResponseEntity<String> response = post("/api/availability/batch", Map.of(
+                "userIds", List.of(alice.id(), bob.id(), carol.id()),
+                "from", "2026-04-23T00:00:00Z",
+                "to", "2026-04-24T00:00:00Z"
+        ), alice);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Map<String, Integer> windowCounts = new HashMap<>();
+        for (JsonNode user : readJsonBody(response).get("users")) {
+            windowCounts.put(user.get("userId").asText(), user.get("windows").size());
+        }
+        assertThat(windowCounts).containsExactlyInAnyOrderEntriesOf(Map.of(
+                alice.id().toString(), 2,
+                bob.id().toString(), 1,
+                carol.id().toString(), 0
+        ));
+    }
+
+    @Test
+    void getBatchAvailability_withUnknownUser_returnsNotFound() {
+        TestUser user = registerUser("batch-unknown");
+
+        ResponseEntity<String> response = post("/api/availability/batch", Map.of(
+                "userIds", List.of(user.id(), UUID.randomUUID()),
+                "from", "2026-04-23T00:00:00Z",
+                "to", "2026-04-24T00:00:00Z"
+        ), user);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     @Test
     void getAvailability_withInvalidRange_returnsBadRequest() {
         TestUser user = registerUser("availability-invalid");
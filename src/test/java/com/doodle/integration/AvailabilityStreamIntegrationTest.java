@@ -0,0 +1,60 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityStreamIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void streamChanges_pushesCommittedSlotChangesOfWatchedUsers() throws Exception {
+        TestUser watcher = registerUser("stream-watcher");
+        TestUser owner = registerUser("stream-owner");
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url("/api/availability/changes?userIds=" + owner.id())))
+                .header("Accept", "text/event-stream")
+                .header("Authorization", basicAuth(watcher))
+                .GET()
+                .build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        CompletableFuture<String> firstData = CompletableFuture.supplyAsync(() -> response.body()
+                .filter(line -> line.startsWith("data:"))
+                .findFirst()
+                .orElseThrow());
+        UUID slotId = createSlot(owner, "2026-08-03T09:00:00Z", "2026-08-03T10:00:00Z");
+
+        JsonNode change = objectMapper.readTree(firstData.get(10, TimeUnit.SECONDS).substring("data:".length()));
+        assertThat(change.get("userId").asText()).isEqualTo(owner.id().toString());
+        assertThat(change.get("slotId").asText()).isEqualTo(slotId.toString());
+        assertThat(change.get("change").asText()).isEqualTo("SAVED");
+        assertThat(change.get("window").get("status").asText()).isEqualTo("FREE");
+        response.body().close();
+    }
+
+    @Test
+    void streamChanges_withUnknownUser_returnsNotFound() {
+        TestUser watcher = registerUser("stream-unknown");
+
+        assertThat(get("/api/availability/changes?userIds=" + UUID.randomUUID(), watcher).getStatusCode().value())
+                .isEqualTo(404);
+    }
+
+    private String basicAuth(TestUser user) {
+        String credentials = user.email() + ":" + user.password();
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
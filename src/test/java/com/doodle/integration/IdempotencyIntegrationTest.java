@@ -0,0 +1,85 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class IdempotencyIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void createSlot_withRepeatedKey_replaysTheFirstResponse() {
+        TestUser user = registerUser("idem-slot");
+        Map<String, Object> request = Map.of("startTime", "2026-06-01T09:00:00Z", "endTime", "2026-06-01T10:00:00Z");
+        String key = UUID.randomUUID().toString();
+
+        ResponseEntity<String> first = postWithKey("/api/slots", request, user, key);
+        ResponseEntity<String> retry = postWithKey("/api/slots", request, user, key);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("false");
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(readJsonBody(retry).get("id").asText()).isEqualTo(readJsonBody(first).get("id").asText());
+
+        JsonNode slots = readJsonBody(get("/api/slots?from=2026-06-01T00:00:00Z&to=2026-06-02T00:00:00Z", user));
+        assertThat(slots.get("content").size()).isEqualTo(1);
+    }
+
+    @Test
+    void scheduleMeeting_withRepeatedKey_doesNotConflictWithItself() {
+        TestUser organizer = registerUser("idem-meeting");
+        UUID slotId = createSlot(organizer, "2026-06-02T09:00:00Z", "2026-06-02T10:00:00Z");
+        Map<String, Object> request = Map.of("slotId", slotId, "title", "retry-safe");
+        String key = UUID.randomUUID().toString();
+
+        ResponseEntity<String> first = postWithKey("/api/meetings", request, organizer, key);
+        ResponseEntity<String> retry = postWithKey("/api/meetings", request, organizer, key);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(readJsonBody(retry).get("id").asText()).isEqualTo(readJsonBody(first).get("id").asText());
+    }
+
+    @Test
+    void createSlot_withKeyReusedForAnotherBody_returnsUnprocessable() {
+        TestUser user = registerUser("idem-reuse");
+        String key = UUID.randomUUID().toString();
+        postWithKey("/api/slots", Map.of("startTime", "2026-06-03T09:00:00Z", "endTime", "2026-06-03T10:00:00Z"), user, key);
+
+        ResponseEntity<String> reused = postWithKey(
+                "/api/slots",
+                Map.of("startTime", "2026-06-03T11:00:00Z", "endTime", "2026-06-03T12:00:00Z"),
+                user,
+                key
+        );
+
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_CONTENT);
+    }
+
+    @Test
+    void createSlot_afterFailedAttempt_canRetryWithTheSameKey() {
+        TestUser user = registerUser("idem-failed");
+        createSlot(user, "2026-06-04T09:00:00Z", "2026-06-04T10:00:00Z");
+        Map<String, Object> overlapping = Map.of("startTime", "2026-06-04T09:30:00Z", "endTime", "2026-06-04T10:30:00Z");
+        String key = UUID.randomUUID().toString();
+
+        ResponseEntity<String> failed = postWithKey("/api/slots", overlapping, user, key);
+        assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        ResponseEntity<String> retry = postWithKey("/api/slots", overlapping, user, key);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    private ResponseEntity<String> postWithKey(String path, Object body, TestUser user, String key) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Idempotency-Key", key);
+        return exchange(HttpMethod.POST, path, body, user, headers);
+    }
+}
@@ -3,12 +3,14 @@ package com.doodle.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,108 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
         assertThat(readJsonBody(secondResponse).get("message").asText()).contains("busy");
     }
 
+    @Test
+    void scheduleMeeting_withUnknownParticipant_returnsNotFoundAndLeavesSlotFree() {
+        TestUser organizer = registerUser("meeting-unknown-participant");
+        UUID slotId = createSlot(organizer, "2026-04-02T14:00:00Z", "2026-04-02T15:00:00Z");
+
+        ResponseEntity<String> response = scheduleMeeting(organizer, slotId, "ghost", List.of(UUID.randomUUID()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(readJsonBody(get("/api/slots/" + slotId, organizer)).get("status").asText()).isEqualTo("FREE");
+    }
+
+    @Test
+    void scheduleMeeting_withConflictCheck_reportsOrRejectsBusyParticipants() {
+        TestUser organizer = registerUser("meeting-conflict-organizer");
+        TestUser busy = registerUser("meeting-conflict-busy");
+        TestUser free = registerUser("meeting-conflict-free");
+        UUID busySlot = createSlot(busy, "2026-04-03T09:00:00Z", "2026-04-03T10:00:00Z");
+        assertThat(scheduleMeeting(busy, busySlot, "own").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        UUID rejectedSlot = createSlot(organizer, "2026-04-03T09:30:00Z", "2026-04-03T10:30:00Z");
+        ResponseEntity<String> rejected = post("/api/meetings?conflicts=reject", Map.of(
+                "slotId", rejectedSlot,
+                "title", "rejected",
+                "participantIds", List.of(busy.id(), free.id())
+        ), organizer);
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(readJsonBody(rejected).get("message").asText()).contains(busy.id().toString());
+        assertThat(readJsonBody(get("/api/slots/" + rejectedSlot, organizer)).get("status").asText()).isEqualTo("FREE");
+
+        ResponseEntity<String> reported = post("/api/meetings?conflicts=report", Map.of(
+                "slotId", rejectedSlot,
+                "title", "reported",
+                "participantIds", List.of(busy.id(), free.id())
+        ), organizer);
+        assertThat(reported.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        JsonNode conflicts = readJsonBody(reported).get("conflictingParticipantIds");
+        assertThat(conflicts).hasSize(1);
+        assertThat(conflicts.get(0).asText()).isEqualTo(busy.id().toString());
+
+        ResponseEntity<String> unchecked = scheduleMeeting(organizer, createSlot(
+                organizer, "2026-04-03T11:00:00Z", "2026-04-03T12:00:00Z"), "unchecked", List.of(busy.id()));
+        assertThat(readJsonBody(unchecked).has("conflictingParticipantIds")).isFalse();
+    }
+
+    @Test
+    void scheduleMeeting_onAHeldSlot_needsTheHoldToken() {
+        TestUser organizer = registerUser("meeting-hold");
+        UUID slotId = createSlot(organizer, "2026-04-03T13:00:00Z", "2026-04-03T14:00:00Z");
+
+        ResponseEntity<String> hold = post("/api/slots/" + slotId + "/hold?seconds=60", null, organizer);
+        assertThat(hold.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String token = readJsonBody(hold).get("holdToken").asText();
+
+        ResponseEntity<String> withoutToken = scheduleMeeting(organizer, slotId, "racing");
+        assertThat(withoutToken.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(readJsonBody(withoutToken).get("message").asText()).contains("held");
+        assertThat(delete("/api/slots/" + slotId + "/hold?token=" + UUID.randomUUID(), organizer).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+
+        ResponseEntity<String> withToken = post("/api/meetings", Map.of(
+                "slotId", slotId,
+                "title", "holder",
+                "holdToken", token
+        ), organizer);
+        assertThat(withToken.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(readJsonBody(get("/api/slots/" + slotId, organizer)).get("status").asText()).isEqualTo("BUSY");
+    }
+
+    @Test
+    void bookFirstAvailable_picksTheFirstSlotEveryParticipantIsFreeFor() {
+        TestUser organizer = registerUser("first-available-organizer");
+        TestUser participant = registerUser("first-available-participant");
+        UUID clashing = createSlot(organizer, "2026-04-06T09:00:00Z", "2026-04-06T10:00:00Z");
+        UUID tooShort = createSlot(organizer, "2026-04-06T10:00:00Z", "2026-04-06T10:15:00Z");
+        UUID expected = createSlot(organizer, "2026-04-06T11:00:00Z", "2026-04-06T12:00:00Z");
+        UUID participantSlot = createSlot(participant, "2026-04-06T09:30:00Z", "2026-04-06T10:30:00Z");
+        assertThat(scheduleMeeting(participant, participantSlot, "busy").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        Map<String, Object> request = Map.of(
+                "title", "first-available",
+                "participantIds", List.of(participant.id()),
+                "from", "2026-04-06T00:00:00Z",
+                "to", "2026-04-07T00:00:00Z",
+                "minSlotMinutes", 30
+        );
+        ResponseEntity<String> booked = post("/api/meetings/first-available", request, organizer);
+
+        assertThat(booked.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(readJsonBody(booked).get("slotId").asText()).isEqualTo(expected.toString());
+        assertThat(readJsonBody(get("/api/slots/" + clashing, organizer)).get("status").asText()).isEqualTo("FREE");
+        assertThat(readJsonBody(get("/api/slots/" + tooShort, organizer)).get("status").asText()).isEqualTo("FREE");
+
+        ResponseEntity<String> exhausted = post("/api/meetings/first-available", Map.of(
+                "title", "none-left",
+                "participantIds", List.of(participant.id()),
+                "from", "2026-04-06T09:00:00Z",
+                "to", "2026-04-06T10:00:00Z",
+                "minSlotMinutes", 30
+        ), organizer);
+        assertThat(exhausted.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
     @Test
     void concurrentBooking_onlyOneSucceeds() throws InterruptedException {
         TestUser organizer = registerUser("meeting-concurrency");
@@ -109,6 +213,53 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
         assertThat(others.get()).isZero();
     }
 
+    @Test
+    void concurrentCancelAndBook_onOneCalendar_allSucceed() throws InterruptedException {
+        TestUser organizer = registerUser("meeting-cancel-book");
+        int pairs = 5;
+        List<UUID> booked = new ArrayList<>();
+        List<UUID> meetings = new ArrayList<>();
+        List<UUID> fresh = new ArrayList<>();
+        for (int i = 0; i < pairs; i++) {
+            UUID slotId = createSlot(organizer, "2026-04-07T0" + i + ":00:00Z", "2026-04-07T0" + i + ":30:00Z");
+            ResponseEntity<String> scheduled = scheduleMeeting(organizer, slotId, "to-cancel-" + i);
+            assertThat(scheduled.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            booked.add(slotId);
+            meetings.add(UUID.fromString(readJsonBody(scheduled).get("id").asText()));
+            fresh.add(createSlot(organizer, "2026-04-07T1" + i + ":00:00Z", "2026-04-07T1" + i + ":30:00Z"));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(pairs * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> cancels = new ArrayList<>();
+        List<Future<Integer>> bookings = new ArrayList<>();
+        for (int i = 0; i < pairs; i++) {
+            UUID meetingId = meetings.get(i);
+            UUID slotId = fresh.get(i);
+            String title = "booked-" + i;
+            cancels.add(pool.submit(() -> {
+                start.await(10, TimeUnit.SECONDS);
+                return delete("/api/meetings/" + meetingId, organizer).getStatusCode().value();
+            }));
+            bookings.add(pool.submit(() -> {
+                start.await(10, TimeUnit.SECONDS);
+                return scheduleMeetingStatus(organizer, slotId, title);
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < pairs; i++) {
+            assertThat(futureValue(cancels.get(i))).isEqualTo(HttpStatus.NO_CONTENT.value());
+            assertThat(futureValue(bookings.get(i))).isEqualTo(HttpStatus.CREATED.value());
+            assertThat(readJsonBody(get("/api/slots/" + booked.get(i), organizer)).get("status").asText())
+                    .isEqualTo("FREE");
+            assertThat(readJsonBody(get("/api/slots/" + fresh.get(i), organizer)).get("status").asText())
+                    .isEqualTo("BUSY");
+        }
+    }
+
     @Test
     void getMeetings_returnsOrganizerAndParticipantResults() {
         TestUser organizer = registerUser("meeting-list-organizer");
@@ -139,6 +290,44 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
         assertThat(contentContainsMeetingId(readJsonBody(participantListResponse), meetingId)).isTrue();
     }
 
+    @Test
+    void getMeetings_withKeysetPaging_walksEveryMeetingOnceInStartOrder() {
+        TestUser organizer = registerUser("meeting-keyset");
+        List<String> expected = new ArrayList<>();
+        for (int hour = 9; hour < 14; hour++) {
+            UUID slotId = createSlot(organizer, "2026-04-09T%02d:00:00Z".formatted(hour), "2026-04-09T%02d:30:00Z".formatted(hour));
+            ResponseEntity<String> scheduled = scheduleMeeting(organizer, slotId, "keyset-" + hour);
+            expected.add(readJsonBody(scheduled).get("id").asText());
+        }
+
+        List<String> seen = new ArrayList<>();
+        String path = "/api/meetings?from=2026-04-09T00:00:00Z&to=2026-04-10T00:00:00Z&size=2&paging=keyset";
+        String cursor = null;
+        do {
+            ResponseEntity<String> response = get(cursor == null ? path : path + "&cursor=" + cursor, organizer);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode body = readJsonBody(response);
+            assertThat(body.has("totalElements")).isFalse();
+            body.get("content").forEach(meeting -> seen.add(meeting.get("id").asText()));
+            cursor = body.hasNonNull("nextCursor") ? body.get("nextCursor").asText() : null;
+            assertThat(body.get("hasNext").asBoolean()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void getMeetings_withMalformedCursor_returnsBadRequest() {
+        TestUser organizer = registerUser("meeting-bad-cursor");
+
+        ResponseEntity<String> response = get(
+                "/api/meetings?from=2026-04-09T00:00:00Z&to=2026-04-10T00:00:00Z&cursor=bogus",
+                organizer
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void getMeeting_returnsDetailsForOrganizerAndParticipant() {
         TestUser organizer = registerUser("meeting-get-organizer");
@@ -199,6 +388,38 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
         assertThat(arrayContainsText(updated.get("participantIds"), participantTwo.id().toString())).isTrue();
     }
 
+    @Test
+    void getMeetings_followsParticipantChangesAndSlotMoves() {
+        TestUser organizer = registerUser("agenda-organizer");
+        TestUser dropped = registerUser("agenda-dropped");
+        TestUser added = registerUser("agenda-added");
+        UUID slotId = createSlot(organizer, "2026-04-10T09:00:00Z", "2026-04-10T10:00:00Z");
+        ResponseEntity<String> scheduled = scheduleMeeting(organizer, slotId, "agenda", List.of(dropped.id()));
+        UUID meetingId = UUID.fromString(readJsonBody(scheduled).get("id").asText());
+        String day = "/api/meetings?from=2026-04-10T00:00:00Z&to=2026-04-11T00:00:00Z";
+
+        assertThat(contentContainsMeetingId(readJsonBody(get(day, dropped)), meetingId)).isTrue();
+
+        patch("/api/meetings/" + meetingId, Map.of("participantIds", List.of(added.id())), organizer);
+
+        assertThat(contentContainsMeetingId(readJsonBody(get(day, dropped)), meetingId)).isFalse();
+        assertThat(contentContainsMeetingId(readJsonBody(get(day, added)), meetingId)).isTrue();
+        assertThat(contentContainsMeetingId(readJsonBody(get(day, organizer)), meetingId)).isTrue();
+
+        patch("/api/slots/" + slotId, Map.of(
+                "startTime", "2026-04-11T09:00:00Z",
+                "endTime", "2026-04-11T10:00:00Z"
+        ), organizer);
+        String nextDay = "/api/meetings?from=2026-04-11T00:00:00Z&to=2026-04-12T00:00:00Z";
+
+        assertThat(contentContainsMeetingId(readJsonBody(get(day, added)), meetingId)).isFalse();
+        assertThat(contentContainsMeetingId(readJsonBody(get(nextDay, added)), meetingId)).isTrue();
+
+        delete("/api/meetings/" + meetingId, organizer);
+
+        assertThat(contentContainsMeetingId(readJsonBody(get(nextDay, added)), meetingId)).isFalse();
+    }
+
     @Test
     void getMeeting_withoutAccess_returnsForbidden() {
         TestUser organizer = registerUser("meeting-access-organizer");
@@ -283,6 +504,14 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
     }
 
+    private static int futureValue(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (Exception ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
     private int scheduleMeetingStatus(TestUser user, UUID slotId, String title) {
         ResponseEntity<String> response = exchange(
                 HttpMethod.POST,
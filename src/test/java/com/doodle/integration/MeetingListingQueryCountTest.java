@@ -0,0 +1,87 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doodle.dto.response.MeetingResponse;
+import com.doodle.service.KeysetPage;
+import com.doodle.service.MeetingService;
+import com.doodle.service.TotalsMode;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+class MeetingListingQueryCountTest extends AbstractIntegrationTest {
+
+    private static final Instant FROM = Instant.parse("2026-05-04T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-05-05T00:00:00Z");
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private TestUser organizer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        organizer = registerUser("listing-queries");
+        List<UUID> participants = List.of(
+                registerUser("listing-queries-p1").id(),
+                registerUser("listing-queries-p2").id(),
+                registerUser("listing-queries-p3").id()
+        );
+        for (int hour = 8; hour < 16; hour++) {
+            UUID slotId = createSlot(
+                    organizer, "2026-05-04T%02d:00:00Z".formatted(hour), "2026-05-04T%02d:30:00Z".formatted(hour));
+            scheduleMeeting(organizer, slotId, "listing-" + hour, participants);
+        }
+    }
+
+    @Test
+    void offsetPage_takesThreeStatementsWhateverItsSize() {
+        Slice<MeetingResponse> small = countStatements(3, () ->
+                meetingService.getMeetings(organizer.id(), FROM, TO, PageRequest.of(0, 2), TotalsMode.NONE));
+        Slice<MeetingResponse> large = countStatements(3, () ->
+                meetingService.getMeetings(organizer.id(), FROM, TO, PageRequest.of(0, 8), TotalsMode.NONE));
+
+        assertThat(small.getContent()).hasSize(2);
+        assertThat(large.getContent()).hasSize(8);
+        assertThat(large.getContent()).allSatisfy(meeting -> assertThat(meeting.participantIds()).hasSize(3));
+    }
+
+    @Test
+    void exactTotals_addOnlyTheCountStatement() {
+        countStatements(4, () ->
+                meetingService.getMeetings(organizer.id(), FROM, TO, PageRequest.of(0, 5), TotalsMode.EXACT));
+    }
+
+    @Test
+    void keysetPage_takesThreeStatements() {
+        KeysetPage<MeetingResponse> page = countStatements(3, () ->
+                meetingService.getMeetingsAfter(organizer.id(), FROM, TO, null, 5));
+
+        assertThat(page.content()).hasSize(5);
+        assertThat(page.content()).allSatisfy(meeting -> assertThat(meeting.participantIds()).hasSize(3));
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> listing) {
+        statistics.clear();
+        T result = listing.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+class OutboxIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Path SINK_FILE = createSinkFile();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void outboxProperties(DynamicPropertyRegistry registry) {
+        registry.add("doodle.outbox.enabled", () -> "true");
+        registry.add("doodle.outbox.relay.interval", () -> "PT0.1S");
+        registry.add("doodle.outbox.file-sink.path", SINK_FILE::toString);
+    }
+
+    @Test
+    void slotAndMeetingChanges_areRelayedInOrderPerCalendar() throws InterruptedException {
+        TestUser organizer = registerUser("outbox-organizer");
+        UUID slotId = createSlot(organizer, "2026-07-01T09:00:00Z", "2026-07-01T10:00:00Z");
+        ResponseEntity<String> scheduled = scheduleMeeting(organizer, slotId, "outbox");
+        assertThat(scheduled.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String meetingId = readJsonBody(scheduled).get("id").asText();
+        assertThat(delete("/api/meetings/" + meetingId, organizer).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        List<String> types = awaitTypesForSlot(slotId, 5);
+
+        assertThat(types).containsExactly(
+                "slot.saved", "slot.saved", "meeting.scheduled", "slot.saved", "meeting.cancelled");
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE payload LIKE ?", Integer.class, "%" + slotId + "%");
+        assertThat(pending).isZero();
+    }
+
+    private List<String> awaitTypesForSlot(UUID slotId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<String> types = List.of();
+        while (System.currentTimeMillis() < deadline) {
+            types = typesForSlot(slotId);
+            if (types.size() >= expected) {
+                return types;
+            }
+            Thread.sleep(100);
+        }
+        return types;
+    }
+
+    private List<String> typesForSlot(UUID slotId) {
+        List<String> types = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(SINK_FILE)) {
+                JsonNode message = objectMapper.readTree(line);
+                if (slotId.toString().equals(message.path("payload").path("slotId").asText())) {
+                    types.add(message.get("type").asText());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return types;
+    }
+
+    private static Path createSinkFile() {
+        try {
+            Path file = Files.createTempFile("outbox", ".ndjson");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "doodle.availability.index.enabled=true")
+class SlotIndexIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void availability_reflectsCommittedWritesThroughIndex() {
+        TestUser user = registerUser("index-writes");
+        String range = "&from=2026-05-04T00:00:00Z&to=2026-05-05T00:00:00Z";
+
+        createSlot(user, "2026-05-04T09:00:00Z", "2026-05-04T10:00:00Z");
+        assertThat(windows(user, range).size()).isEqualTo(1);
+
+        UUID busySlot = createSlot(user, "2026-05-04T11:00:00Z", "2026-05-04T12:00:00Z");
+        assertThat(scheduleMeeting(user, busySlot, "index-meeting").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        JsonNode windows = windows(user, range);
+        assertThat(windows.size()).isEqualTo(2);
+        assertThat(windows.get(1).get("status").asText()).isEqualTo("BUSY");
+    }
+
+    @Test
+    void createOverlappingSlot_isRejectedByIndex() {
+        TestUser user = registerUser("index-overlap");
+        createSlot(user, "2026-05-05T09:00:00Z", "2026-05-05T10:00:00Z");
+
+        ResponseEntity<String> response = post(
+                "/api/slots",
+                Map.of("startTime", "2026-05-05T09:45:00Z", "endTime", "2026-05-05T10:30:00Z"),
+                user
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    private JsonNode windows(TestUser user, String range) {
+        ResponseEntity<String> response = get("/api/availability?userId=" + user.id() + range, user);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return readJsonBody(response).get("windows");
+    }
+}
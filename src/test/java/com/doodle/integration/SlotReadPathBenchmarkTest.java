@@ -0,0 +1,125 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.domain.TimeSlot;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.dto.response.TimeSlotResponse;
+import com.doodle.mapper.TimeSlotMapper;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.service.UserDirectoryCache;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+class SlotReadPathBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int SLOTS = 5_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final Instant FROM = Instant.parse("2027-01-01T00:00:00Z");
+
+    @Autowired
+    private TimeSlotRepository slotRepository;
+
+    @Autowired
+    private TimeSlotMapper mapper;
+
+    @Autowired
+    private UserDirectoryCache userDirectory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void projectionQueries_allocateLessThanEntityQueries() {
+        TestUser user = registerUser("benchmark");
+        UUID calendarId = userDirectory.requireCalendarId(user.id());
+        seedSlots(calendarId);
+        Instant to = FROM.plus(Duration.ofMinutes(30L * SLOTS));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Result entityWindows = measure("entity -> SlotWindow", readOnly, () -> entityQuery(calendarId, to).stream()
+                .map(slot -> new SlotWindow(slot.getStartTime(), slot.getEndTime(), slot.getStatus()))
+                .toList());
+        Result projectedWindows = measure("projection SlotWindow", readOnly,
+                () -> slotRepository.findWindowsByCalendarAndRange(calendarId, FROM, to));
+        Result entityResponses = measure("entity -> TimeSlotResponse", readOnly,
+                () -> entityQuery(calendarId, to).stream().map(mapper::toResponse).toList());
+        Result projectedResponses = measure("projection TimeSlotResponse", readOnly, () -> new ArrayList<>(
+                slotRepository.findResponsesByCalendarAndRange(
+                        calendarId, FROM, to, Pageable.unpaged()).getContent()));
+
+        assertThat(projectedWindows.bytesPerRound()).isLessThan(entityWindows.bytesPerRound());
+        assertThat(projectedResponses.bytesPerRound()).isLessThan(entityResponses.bytesPerRound());
+    }
+
+    private List<TimeSlot> entityQuery(UUID calendarId, Instant to) {
+        return entityManager.createQuery(
+                        "SELECT ts FROM TimeSlot ts WHERE ts.calendarId = :calendarId "
+                                + "AND ts.startTime < :endTime AND ts.endTime > :startTime ORDER BY ts.startTime",
+                        TimeSlot.class)
+                .setParameter("calendarId", calendarId)
+                .setParameter("startTime", FROM)
+                .setParameter("endTime", to)
+                .getResultList();
+    }
+
+    private void seedSlots(UUID calendarId) {
+        List<TimeSlot> slots = new ArrayList<>(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            TimeSlot slot = new TimeSlot();
+            slot.setId(UUID.randomUUID());
+            slot.setCalendarId(calendarId);
+            slot.setStartTime(FROM.plus(Duration.ofMinutes(30L * i)));
+            slot.setEndTime(FROM.plus(Duration.ofMinutes(30L * i + 15)));
+            slot.setStatus(i % 3 == 0 ? SlotStatus.BUSY : SlotStatus.FREE);
+            slots.add(slot);
+        }
+        slotRepository.saveAll(slots);
+    }
+
+    private Result measure(String name, TransactionTemplate readOnly, Supplier<List<?>> query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            List<?> rows = readOnly.execute(status -> query.get());
+            assertThat(rows).hasSize(SLOTS);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            readOnly.execute(status -> query.get());
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        Result result = new Result(bytes / MEASURED_ROUNDS, elapsedNanos / MEASURED_ROUNDS);
+        System.out.printf("%-28s %,12d bytes/round %,10d us/round%n",
+                name, result.bytesPerRound(), result.nanosPerRound() / 1_000);
+        return result;
+    }
+
+    private record Result(long bytesPerRound, long nanosPerRound) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.doodle.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class SlotSeriesIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void createSeries_occurrencesAppearInSlotsAndAvailability() {
+        TestUser user = registerUser("series-expand");
+        createSeries(user, List.of("MONDAY", "WEDNESDAY"), List.of("2026-06-10"));
+
+        ResponseEntity<String> slots = get(
+                "/api/slots?from=2026-06-08T00:00:00Z&to=2026-06-15T00:00:00Z&page=0&size=20", user);
+        assertThat(slots.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode content = readJsonBody(slots).get("content");
+        assertThat(content.size()).isEqualTo(1);
+        assertThat(content.get(0).get("startTime").asText()).isEqualTo("2026-06-08T09:00:00Z");
+        assertThat(content.get(0).hasNonNull("seriesId")).isTrue();
+
+        ResponseEntity<String> availability = get(
+                "/api/availability?userId=" + user.id() + "&from=2026-06-15T00:00:00Z&to=2026-06-18T00:00:00Z",
+                user
+        );
+        assertThat(readJsonBody(availability).get("windows").size()).isEqualTo(2);
+    }
+
+    @Test
+    void scheduleMeeting_onOccurrence_materializesABusySlotOnce() {
+        TestUser user = registerUser("series-book");
+        UUID seriesId = createSeries(user, List.of("MONDAY"), List.of());
+
+        Map<String, Object> request = Map.of(
+                "seriesId", seriesId,
+                "occurrenceStart", "2026-06-15T09:00:00Z",
+                "title", "Series booking"
+        );
+        ResponseEntity<String> booked = post("/api/meetings", request, user);
+        assertThat(booked.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        ResponseEntity<String> again = post("/api/meetings", request, user);
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        JsonNode content = readJsonBody(get(
+                "/api/slots?from=2026-06-15T00:00:00Z&to=2026-06-16T00:00:00Z&page=0&size=20", user)).get("content");
+        assertThat(content.size()).isEqualTo(1);
+        assertThat(content.get(0).get("status").asText()).isEqualTo("BUSY");
+        assertThat(content.get(0).hasNonNull("seriesId")).isFalse();
+    }
+
+    @Test
+    void createSlot_overlappingAnOccurrence_returnsConflict() {
+        TestUser user = registerUser("series-overlap");
+        createSeries(user, List.of("MONDAY"), List.of());
+
+        ResponseEntity<String> response = post("/api/slots", Map.of(
+                "startTime", "2026-06-22T09:30:00Z",
+                "endTime", "2026-06-22T10:30:00Z"
+        ), user);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    private UUID createSeries(TestUser user, List<String> days, List<String> exceptDates) {
+        ResponseEntity<String> response = post("/api/slot-series", Map.of(
+                "frequency", "WEEKLY",
+                "daysOfWeek", days,
+                "startDate", "2026-06-01",
+                "untilDate", "2026-08-31",
+                "startTime", "09:00",
+                "durationMinutes", 60,
+                "exceptDates", exceptDates
+        ), user);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return UUID.fromString(readJsonBody(response).get("id").asText());
+    }
+}
@@ -4,10 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 
 class TimeSlotIntegrationTest extends AbstractIntegrationTest {
@@ -43,6 +50,25 @@ class TimeSlotIntegrationTest extends AbstractIntegrationTest {
         assertThat(readJsonBody(response).get("message").asText()).contains("overlaps");
     }
 
+    @Test
+    void concurrentOverlappingCreates_onlyOneSucceeds() throws Exception {
+        TestUser user = registerUser("slot-race");
+        Map<String, String> body = Map.of("startTime", "2026-04-02T09:00:00Z", "endTime", "2026-04-02T10:00:00Z");
+
+        List<HttpStatusCode> statuses;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<ResponseEntity<String>>> responses = executor.invokeAll(
+                    Collections.nCopies(4, () -> post("/api/slots", body, user)));
+            statuses = new ArrayList<>();
+            for (Future<ResponseEntity<String>> response : responses) {
+                statuses.add(response.get().getStatusCode());
+            }
+        }
+
+        assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.CREATED)).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.CONFLICT)).hasSize(3);
+    }
+
     @Test
     void deleteSlotWithMeeting_returnsConflict() {
         TestUser user = registerUser("slot-delete");
@@ -67,7 +93,7 @@ class TimeSlotIntegrationTest extends AbstractIntegrationTest {
         createSlot(user, "2026-04-01T10:15:00Z", "2026-04-01T11:00:00Z");
 
         ResponseEntity<String> response = get(
-                "/api/slots?from=2026-04-01T00:00:00Z&to=2026-04-02T00:00:00Z&page=0&size=1",
+                "/api/slots?from=2026-04-01T00:00:00Z&to=2026-04-02T00:00:00Z&page=0&size=1&totals=exact",
                 user
         );
 
@@ -81,6 +107,72 @@ class TimeSlotIntegrationTest extends AbstractIntegrationTest {
         assertThat(body.get("content").size()).isEqualTo(1);
     }
 
+    @Test
+    void getSlotsByRange_withoutTotals_skipsTheCountAndReportsHasNext() {
+        TestUser user = registerUser("slot-slice");
+        createSlot(user, "2026-04-03T09:00:00Z", "2026-04-03T10:00:00Z");
+        createSlot(user, "2026-04-03T10:15:00Z", "2026-04-03T11:00:00Z");
+        String path = "/api/slots?from=2026-04-03T00:00:00Z&to=2026-04-04T00:00:00Z&page=0&size=1";
+
+        JsonNode slice = readJsonBody(get(path, user));
+        assertThat(slice.has("totalElements")).isFalse();
+        assertThat(slice.has("totalPages")).isFalse();
+        assertThat(slice.get("hasNext").asBoolean()).isTrue();
+        assertThat(slice.get("content").size()).isEqualTo(1);
+
+        JsonNode estimated = readJsonBody(get(path + "&totals=estimate", user));
+        assertThat(estimated.get("totalElements").asLong()).isGreaterThanOrEqualTo(2);
+        assertThat(estimated.get("hasNext").asBoolean()).isTrue();
+
+        JsonNode lastPage = readJsonBody(get(path.replace("page=0", "page=1") + "&totals=estimate", user));
+        assertThat(lastPage.get("totalElements").asLong()).isEqualTo(2);
+        assertThat(lastPage.get("hasNext").asBoolean()).isFalse();
+    }
+
+    @Test
+    void getSlotsByRange_withNdjsonAccept_streamsSlotsInStartOrder() {
+        TestUser user = registerUser("slot-stream");
+        UUID first = createSlot(user, "2026-04-22T09:00:00Z", "2026-04-22T10:00:00Z");
+        UUID second = createSlot(user, "2026-04-22T11:00:00Z", "2026-04-22T12:00:00Z");
+
+        ResponseEntity<String> response = getNdjson(
+                "/api/slots?from=2026-04-22T00:00:00Z&to=2026-04-23T00:00:00Z",
+                user
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<JsonNode> slots = readNdjsonBody(response);
+        assertThat(slots).hasSize(2);
+        assertThat(slots.get(0).get("id").asText()).isEqualTo(first.toString());
+        assertThat(slots.get(1).get("id").asText()).isEqualTo(second.toString());
+    }
+
+    @Test
+    void createSlotsInBulk_createsNonConflictingSlotsAndReportsConflicts() {
+        TestUser user = registerUser("slot-bulk");
+        createSlot(user, "2026-05-04T10:00:00Z", "2026-05-04T11:00:00Z");
+
+        ResponseEntity<String> response = post("/api/slots/bulk", Map.of(
+                "slots", List.of(
+                        Map.of("startTime", "2026-05-04T09:00:00Z", "endTime", "2026-05-04T10:00:00Z"),
+                        Map.of("startTime", "2026-05-04T10:30:00Z", "endTime", "2026-05-04T11:30:00Z")
+                ),
+                "recurrence", Map.of(
+                        "fromDate", "2026-05-05",
+                        "untilDate", "2026-05-18",
+                        "daysOfWeek", List.of("TUESDAY", "THURSDAY"),
+                        "startTime", "09:00",
+                        "endTime", "12:00"
+                )
+        ), user);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode body = readJsonBody(response);
+        assertThat(body.get("created").size()).isEqualTo(5);
+        assertThat(body.get("conflicts").size()).isEqualTo(1);
+        assertThat(body.get("conflicts").get(0).get("index").asInt()).isEqualTo(1);
+    }
+
     @Test
     void updateSlot_partialUpdate_returnsUpdatedSlot() {
         TestUser user = registerUser("slot-update");
@@ -0,0 +1,91 @@
+package com.doodle.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret";
+    private static final AuthenticatedUser USER = new AuthenticatedUser(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "user@example.com",
+            "hash"
+    );
+    private static final Instant NOW = Instant.parse("2026-04-01T09:00:00Z");
+
+    @Test
+    void verify_whenTokenIsValid_returnsSubject() {
+        TokenService service = serviceAt(NOW);
+
+        TokenService.IssuedToken token = service.issue(USER);
+
+        assertThat(token.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+        assertThat(service.verify(token.value())).hasValueSatisfying(user -> {
+            assertThat(user.id()).isEqualTo(USER.id());
+            assertThat(user.calendarId()).isEqualTo(USER.calendarId());
+            assertThat(user.email()).isEqualTo("user@example.com");
+            assertThat(user.passwordHash()).isNull();
+        });
+    }
+
+    @Test
+    void verify_whenUserHasNoCalendar_returnsNullCalendarId() {
+        TokenService service = serviceAt(NOW);
+        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), null, "seed@example.com", "hash");
+
+        assertThat(service.verify(service.issue(user).value()))
+                .hasValueSatisfying(verified -> assertThat(verified.calendarId()).isNull());
+    }
+
+    @Test
+    void verify_whenTokenExpired_returnsEmpty() {
+        TokenService.IssuedToken token = serviceAt(NOW).issue(USER);
+
+        TokenService later = serviceAt(NOW.plus(Duration.ofMinutes(15)));
+
+        assertThat(later.verify(token.value())).isEmpty();
+    }
+
+    @Test
+    void verify_whenPayloadTampered_returnsEmpty() {
+        TokenService service = serviceAt(NOW);
+        String token = service.issue(USER).value();
+        String forgedPayload = service.issue(new AuthenticatedUser(UUID.randomUUID(), null, "admin@example.com", null)).value().split("\\.")[0];
+
+        String tampered = forgedPayload + "." + token.split("\\.")[1];
+
+        assertThat(service.verify(tampered)).isEmpty();
+        assertThat(service.verify("not-a-token")).isEmpty();
+    }
+
+    @Test
+    void verify_whenSignedWithDifferentSecret_returnsEmpty() {
+        String token = serviceAt(NOW).issue(USER).value();
+        TokenService other = new TokenService(
+                "another-secret-another-secret-another",
+                Duration.ofMinutes(15),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+
+        assertThat(other.verify(token)).isEmpty();
+    }
+
+    @Test
+    void constructor_whenSecretTooShort_throws() {
+        assertThatThrownBy(() -> new TokenService("short", Duration.ofMinutes(15), Clock.systemUTC()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least 32 bytes");
+    }
+
+    private TokenService serviceAt(Instant instant) {
+        return new TokenService(SECRET, Duration.ofMinutes(15), Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,77 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doodle.domain.SlotStatus;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityBitmapTest {
+
+    private static final Instant FROM = Instant.parse("2026-04-14T09:00:00Z");
+    private static final Instant TO = Instant.parse("2026-04-14T11:00:00Z");
+
+    @Test
+    void mark_packsTwoBitsPerQuantumMostSignificantFirst() {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(FROM, TO);
+
+        bitmap.mark(at("09:00"), at("09:30"), SlotStatus.FREE);
+        bitmap.mark(at("09:30"), at("10:00"), SlotStatus.BUSY);
+
+        assertThat(bitmap.quanta()).isEqualTo(8);
+        assertThat(bitmap.toByteArray()).containsExactly((byte) 0b01011010, (byte) 0);
+    }
+
+    @Test
+    void mark_busyWinsOverFreeInASharedQuantum() {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(FROM, TO);
+
+        bitmap.mark(at("09:00"), at("09:20"), SlotStatus.BUSY);
+        bitmap.mark(at("09:20"), at("10:00"), SlotStatus.FREE);
+
+        assertThat(bitmap.get(0)).isEqualTo(AvailabilityBitmap.BUSY);
+        assertThat(bitmap.get(1)).isEqualTo(AvailabilityBitmap.BUSY);
+        assertThat(bitmap.get(2)).isEqualTo(AvailabilityBitmap.FREE);
+        assertThat(bitmap.get(4)).isEqualTo(AvailabilityBitmap.UNSET);
+    }
+
+    @Test
+    void mark_roundsFreeSlotsInwardAndBusySlotsOutward() {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(FROM, TO);
+
+        bitmap.mark(at("09:05"), at("09:20"), SlotStatus.FREE);
+        bitmap.mark(at("09:35"), at("10:20"), SlotStatus.FREE);
+        bitmap.mark(at("10:35"), at("10:40"), SlotStatus.BUSY);
+
+        assertThat(bitmap.get(0)).isEqualTo(AvailabilityBitmap.UNSET);
+        assertThat(bitmap.get(1)).isEqualTo(AvailabilityBitmap.UNSET);
+        assertThat(bitmap.get(2)).isEqualTo(AvailabilityBitmap.UNSET);
+        assertThat(bitmap.get(3)).isEqualTo(AvailabilityBitmap.FREE);
+        assertThat(bitmap.get(4)).isEqualTo(AvailabilityBitmap.FREE);
+        assertThat(bitmap.get(5)).isEqualTo(AvailabilityBitmap.UNSET);
+        assertThat(bitmap.get(6)).isEqualTo(AvailabilityBitmap.BUSY);
+    }
+
+    @Test
+    void mark_clipsSlotsToTheBitmapRange() {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(FROM, TO);
+
+        bitmap.mark(at("08:00"), at("09:15"), SlotStatus.FREE);
+        bitmap.mark(at("10:45"), at("12:00"), SlotStatus.BUSY);
+
+        assertThat(bitmap.get(0)).isEqualTo(AvailabilityBitmap.FREE);
+        assertThat(bitmap.get(1)).isEqualTo(AvailabilityBitmap.UNSET);
+        assertThat(bitmap.get(7)).isEqualTo(AvailabilityBitmap.BUSY);
+    }
+
+    @Test
+    void floorAndCeil_alignToQuantumBoundaries() {
+        assertThat(AvailabilityBitmap.floor(at("09:07"))).isEqualTo(at("09:00"));
+        assertThat(AvailabilityBitmap.ceil(at("09:07"))).isEqualTo(at("09:15"));
+        assertThat(AvailabilityBitmap.ceil(at("09:15"))).isEqualTo(at("09:15"));
+    }
+
+    private static Instant at(String time) {
+        return Instant.parse("2026-04-14T" + time + ":00Z");
+    }
+}
@@ -0,0 +1,164 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.AvailabilityChangeResponse;
+import com.doodle.dto.response.AvailabilityRefreshResponse;
+import com.doodle.event.SeriesChangedEvent;
+import com.doodle.event.SlotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityChangeStreamTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID calendarId = UUID.randomUUID();
+
+    @Test
+    void onSlotChanged_deliversOnlyToSubscribersOfThatCalendar() {
+        AvailabilityChangeStream stream = stream(Runnable::run, 8);
+        RecordingSink watching = new RecordingSink();
+        RecordingSink other = new RecordingSink();
+        stream.register(Map.of(userId, calendarId), watching);
+        stream.register(Map.of(UUID.randomUUID(), UUID.randomUUID()), other);
+
+        SlotChangedEvent event = event(SlotChangedEvent.Type.SAVED);
+        stream.onSlotChanged(event);
+
+        assertThat(watching.received).singleElement().satisfies(change -> {
+            assertThat(change.userId()).isEqualTo(userId);
+            assertThat(change.slotId()).isEqualTo(event.slotId());
+            assertThat(change.change()).isEqualTo(SlotChangedEvent.Type.SAVED);
+            assertThat(change.window().status()).isEqualTo(SlotStatus.BUSY);
+        });
+        assertThat(other.received).isEmpty();
+    }
+
+    @Test
+    void onSlotChanged_dropsASubscriberWhoseQueueIsFull() {
+        List<Runnable> stalled = new ArrayList<>();
+        AvailabilityChangeStream stream = stream(stalled::add, 2);
+        RecordingSink slow = new RecordingSink();
+        stream.register(Map.of(userId, calendarId), slow);
+
+        stream.onSlotChanged(event(SlotChangedEvent.Type.SAVED));
+        stream.onSlotChanged(event(SlotChangedEvent.Type.SAVED));
+        stream.onSlotChanged(event(SlotChangedEvent.Type.DELETED));
+
+        assertThat(slow.closed).isTrue();
+        assertThat(stream.subscriberCount()).isZero();
+        assertThat(stalled).hasSize(1);
+    }
+
+    @Test
+    void onSlotChanged_unregistersASubscriberThatFailsToReceive() {
+        AvailabilityChangeStream stream = stream(Runnable::run, 8);
+        RecordingSink broken = new RecordingSink();
+        broken.failing = true;
+        stream.register(Map.of(userId, calendarId), broken);
+
+        stream.onSlotChanged(event(SlotChangedEvent.Type.SAVED));
+
+        assertThat(broken.closed).isTrue();
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    @Test
+    void onSeriesChanged_asksSubscribersToRefreshTheSeriesRange() {
+        AvailabilityChangeStream stream = stream(Runnable::run, 8);
+        RecordingSink watching = new RecordingSink();
+        stream.register(Map.of(userId, calendarId), watching);
+        Instant from = Instant.parse("2026-04-06T09:00:00Z");
+        Instant to = Instant.parse("2026-06-29T10:00:00Z");
+
+        stream.onSeriesChanged(new SeriesChangedEvent(
+                SeriesChangedEvent.Type.CREATED, calendarId, UUID.randomUUID(), from, to));
+
+        assertThat(watching.refreshes).containsExactly(new AvailabilityRefreshResponse(userId, from, to));
+        assertThat(watching.received).isEmpty();
+    }
+
+    @Test
+    void heartbeat_reachesEverySubscriberAndDropsDeadOnes() {
+        AvailabilityChangeStream stream = stream(Runnable::run, 8);
+        RecordingSink alive = new RecordingSink();
+        RecordingSink gone = new RecordingSink();
+        gone.failing = true;
+        stream.register(Map.of(userId, calendarId), alive);
+        stream.register(Map.of(UUID.randomUUID(), UUID.randomUUID()), gone);
+
+        stream.heartbeat();
+
+        assertThat(alive.heartbeats).isEqualTo(1);
+        assertThat(alive.closed).isFalse();
+        assertThat(gone.closed).isTrue();
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    private AvailabilityChangeStream stream(Executor writers, int queueSize) {
+        return new AvailabilityChangeStream(
+                mock(UserDirectoryCache.class),
+                new SimpleMeterRegistry(),
+                writers,
+                queueSize,
+                200,
+                Duration.ofMinutes(30)
+        );
+    }
+
+    private SlotChangedEvent event(SlotChangedEvent.Type type) {
+        return new SlotChangedEvent(
+                type,
+                calendarId,
+                UUID.randomUUID(),
+                Instant.parse("2026-04-02T09:00:00Z"),
+                Instant.parse("2026-04-02T10:00:00Z"),
+                SlotStatus.BUSY
+        );
+    }
+
+    private static final class RecordingSink implements AvailabilityChangeStream.Sink {
+
+        private final List<AvailabilityChangeResponse> received = new ArrayList<>();
+        private final List<AvailabilityRefreshResponse> refreshes = new ArrayList<>();
+        private boolean failing;
+        private boolean closed;
+        private int heartbeats;
+
+        @Override
+        public void send(AvailabilityChangeResponse change) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            received.add(change);
+        }
+
+        @Override
+        public void refresh(AvailabilityRefreshResponse refresh) {
+            refreshes.add(refresh);
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            heartbeats++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
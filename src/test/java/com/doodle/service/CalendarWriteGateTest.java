@@ -0,0 +1,123 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.doodle.domain.Calendar;
+import com.doodle.repository.CalendarLockRepository;
+import com.doodle.repository.CalendarRepository;
+import com.doodle.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarWriteGateTest {
+
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CalendarLockRepository lockRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID userId = UUID.randomUUID();
+    private final UUID calendarId = UUID.randomUUID();
+    private CalendarWriteGate gate;
+
+    @BeforeEach
+    void setUp() {
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        UserDirectoryCache userDirectory = new UserDirectoryCache(
+                calendarRepository, userRepository, meterRegistry, 100, Duration.ofMinutes(10));
+        gate = new CalendarWriteGate(
+                userDirectory,
+                lockRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                meterRegistry,
+                16,
+                Duration.ofSeconds(5),
+                3,
+                Duration.ofMillis(1)
+        );
+    }
+
+    @Test
+    void write_retriesAVersionConflictInAFreshTransaction() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = gate.write(userId, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        verify(lockRepository, times(2)).lockForTransaction(calendarId);
+        assertThat(meterRegistry.counter("doodle.calendar.writes.retries").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("doodle.calendar.writes.conflicts").count()).isZero();
+        assertThat(meterRegistry.timer("doodle.calendar.writes.lock.wait").count()).isEqualTo(2);
+    }
+
+    @Test
+    void write_givesUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> gate.write(userId, () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.counter("doodle.calendar.writes.retries").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("doodle.calendar.writes.conflicts").count()).isEqualTo(1);
+    }
+
+    @Test
+    void write_neverRunsTwoWritesToOneCalendarAtOnce() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> gate.write(userId, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.onSpinWait();
+                    return running.decrementAndGet();
+                })));
+            }
+            for (Future<Integer> future : futures) {
+                assertThat(future.get()).isZero();
+            }
+        }
+
+        assertThat(maxRunning).hasValue(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.SlotWindow;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FreeWindowIntersectorTest {
+
+    private static final Instant FROM = Instant.parse("2026-04-14T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-04-15T00:00:00Z");
+
+    @Test
+    void intersect_returnsOverlapOfAllUsers() {
+        List<SlotWindow> alice = List.of(free("09:00", "12:00"), free("14:00", "17:00"));
+        List<SlotWindow> bob = List.of(free("10:00", "11:00"), free("15:00", "18:00"));
+        List<SlotWindow> carol = List.of(free("08:00", "16:00"));
+
+        List<SlotWindow> common = FreeWindowIntersector.intersect(
+                List.of(alice, bob, carol), FROM, TO, Duration.ofMinutes(15));
+
+        assertThat(common).containsExactly(free("10:00", "11:00"), free("15:00", "16:00"));
+    }
+
+    @Test
+    void intersect_mergesAdjacentSlotsOfTheSameUser() {
+        List<SlotWindow> alice = List.of(free("09:00", "10:00"), free("10:00", "11:00"));
+        List<SlotWindow> bob = List.of(free("09:30", "10:45"));
+
+        List<SlotWindow> common = FreeWindowIntersector.intersect(
+                List.of(alice, bob), FROM, TO, Duration.ofMinutes(60));
+
+        assertThat(common).containsExactly(free("09:30", "10:45"));
+    }
+
+    @Test
+    void intersect_dropsWindowsShorterThanMinimumDuration() {
+        List<SlotWindow> alice = List.of(free("09:00", "10:00"), free("11:00", "13:00"));
+        List<SlotWindow> bob = List.of(free("09:40", "12:00"));
+
+        List<SlotWindow> common = FreeWindowIntersector.intersect(
+                List.of(alice, bob), FROM, TO, Duration.ofMinutes(30));
+
+        assertThat(common).containsExactly(free("11:00", "12:00"));
+    }
+
+    @Test
+    void intersect_clampsToRequestedRange() {
+        List<SlotWindow> alice = List.of(new SlotWindow(
+                Instant.parse("2026-04-13T22:00:00Z"), Instant.parse("2026-04-14T02:00:00Z"), SlotStatus.FREE));
+        List<SlotWindow> bob = List.of(new SlotWindow(
+                Instant.parse("2026-04-13T23:00:00Z"), Instant.parse("2026-04-14T03:00:00Z"), SlotStatus.FREE));
+
+        List<SlotWindow> common = FreeWindowIntersector.intersect(
+                List.of(alice, bob), FROM, TO, Duration.ofMinutes(15));
+
+        assertThat(common).containsExactly(free("00:00", "02:00"));
+    }
+
+    @Test
+    void intersect_whenAnyUserHasNoFreeTime_returnsEmpty() {
+        List<SlotWindow> alice = List.of(free("09:00", "17:00"));
+
+        assertThat(FreeWindowIntersector.intersect(
+                List.of(alice, List.of()), FROM, TO, Duration.ofMinutes(15))).isEmpty();
+    }
+
+    private static SlotWindow free(String start, String end) {
+        return new SlotWindow(
+                Instant.parse("2026-04-14T" + start + ":00Z"),
+                Instant.parse("2026-04-14T" + end + ":00Z"),
+                SlotStatus.FREE
+        );
+    }
+}
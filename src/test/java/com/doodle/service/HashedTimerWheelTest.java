@@ -0,0 +1,52 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class HashedTimerWheelTest {
+
+    private static final Instant ORIGIN = Instant.parse("2026-04-01T00:00:00Z");
+
+    @Test
+    void advance_returnsEntriesOnceTheirTickHasPassed() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofSeconds(1), 8, ORIGIN);
+        wheel.schedule("a", ORIGIN.plusMillis(2_500));
+        wheel.schedule("b", ORIGIN.plusSeconds(5));
+
+        assertThat(wheel.advance(ORIGIN.plusSeconds(2))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusSeconds(3))).containsExactly("a");
+        assertThat(wheel.advance(ORIGIN.plusSeconds(6))).containsExactly("b");
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    void advance_keepsEntriesThatAreMoreThanOneTurnAway() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofSeconds(1), 8, ORIGIN);
+        wheel.schedule("later", ORIGIN.plusSeconds(11));
+
+        assertThat(wheel.advance(ORIGIN.plusSeconds(8))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusSeconds(10))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusSeconds(11))).containsExactly("later");
+    }
+
+    @Test
+    void advance_afterAlongPause_stillFindsEveryDueEntry() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofSeconds(1), 8, ORIGIN);
+        wheel.schedule("a", ORIGIN.plusSeconds(3));
+        wheel.schedule("b", ORIGIN.plusSeconds(20));
+
+        assertThat(wheel.advance(ORIGIN.plusSeconds(60))).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void schedule_withADeadlineInThePast_firesOnTheNextTick() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofSeconds(1), 8, ORIGIN);
+        wheel.advance(ORIGIN.plusSeconds(5));
+        wheel.schedule("late", ORIGIN.plusSeconds(1));
+
+        assertThat(wheel.advance(ORIGIN.plusSeconds(6))).containsExactly("late");
+    }
+}
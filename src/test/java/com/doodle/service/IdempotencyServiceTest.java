@@ -0,0 +1,160 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.doodle.domain.IdempotencyRecord;
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.request.CreateSlotRequest;
+import com.doodle.dto.response.TimeSlotResponse;
+import com.doodle.exception.IdempotencyKeyReusedException;
+import com.doodle.exception.SlotConflictException;
+import com.doodle.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-01T08:00:00Z");
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final UUID userId = UUID.randomUUID();
+    private final CreateSlotRequest request = new CreateSlotRequest(
+            Instant.parse("2026-04-01T09:00:00Z"), Instant.parse("2026-04-01T10:00:00Z"));
+    private final AtomicInteger calls = new AtomicInteger();
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(
+                repository,
+                objectMapper,
+                new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                Duration.ofHours(24),
+                100,
+                Duration.ofMinutes(10)
+        );
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void execute_runsOnceAndReplaysFromTheCacheAfterCommit() {
+        when(repository.claim(eq(userId), eq("key-1"), anyString(), eq(NOW.plus(Duration.ofHours(24))))).thenReturn(1);
+
+        IdempotencyService.Result<TimeSlotResponse> first = execute("key-1", request);
+        commit();
+        IdempotencyService.Result<TimeSlotResponse> second = execute("key-1", request);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.body()).isEqualTo(first.body());
+        assertThat(calls.get()).isEqualTo(1);
+        verify(repository, times(1)).claim(any(), any(), any(), any());
+        verify(repository).complete(eq(userId), eq("key-1"), anyString());
+    }
+
+    @Test
+    void execute_whenKeyAlreadyClaimed_replaysTheStoredResponse() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(repository.claim(eq(userId), eq("key-2"), hash.capture(), any())).thenReturn(0);
+        TimeSlotResponse stored = slotResponse();
+        IdempotencyRecord existing = mock(IdempotencyRecord.class);
+        when(existing.getRequestHash()).thenAnswer(invocation -> hash.getValue());
+        when(existing.getResponseBody()).thenReturn(objectMapper.writeValueAsString(stored));
+        when(repository.findById(new IdempotencyRecord.Key(userId, "key-2"))).thenReturn(Optional.of(existing));
+
+        IdempotencyService.Result<TimeSlotResponse> result = execute("key-2", request);
+
+        assertThat(result.replayed()).isTrue();
+        assertThat(result.body()).isEqualTo(stored);
+        assertThat(calls.get()).isZero();
+        verify(repository, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    void execute_whenKeyReusedForAnotherRequest_throws() {
+        when(repository.claim(eq(userId), eq("key-3"), anyString(), any())).thenReturn(1);
+        execute("key-3", request);
+        commit();
+
+        CreateSlotRequest other = new CreateSlotRequest(
+                Instant.parse("2026-04-01T11:00:00Z"), Instant.parse("2026-04-01T12:00:00Z"));
+
+        assertThatThrownBy(() -> execute("key-3", other)).isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenActionFails_storesNothing() {
+        when(repository.claim(eq(userId), eq("key-4"), anyString(), any())).thenReturn(1);
+
+        assertThatThrownBy(() -> service.execute(userId, "key-4", "POST /api/slots", request, TimeSlotResponse.class,
+                () -> {
+                    throw new SlotConflictException("Time slot overlaps with an existing slot");
+                }))
+                .isInstanceOf(SlotConflictException.class);
+
+        verify(repository, never()).complete(any(), any(), any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private IdempotencyService.Result<TimeSlotResponse> execute(String key, CreateSlotRequest body) {
+        return service.execute(userId, key, "POST /api/slots", body, TimeSlotResponse.class, () -> {
+            calls.incrementAndGet();
+            return slotResponse();
+        });
+    }
+
+    private TimeSlotResponse slotResponse() {
+        return new TimeSlotResponse(
+                UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                UUID.fromString("00000000-0000-0000-0000-000000000002"),
+                request.startTime(),
+                request.endTime(),
+                SlotStatus.FREE,
+                NOW,
+                NOW
+        );
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -0,0 +1,39 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class ListingCountEstimatorTest {
+
+    @Test
+    void withEstimate_keepsTheEstimateWhileMoreRowsFollow() {
+        Page<String> page = ListingCountEstimator.withEstimate(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), 40);
+
+        assertThat(page.getTotalElements()).isEqualTo(40);
+        assertThat(page.getTotalPages()).isEqualTo(20);
+    }
+
+    @Test
+    void withEstimate_raisesAnUnderestimateAboveTheRowsSeen() {
+        Page<String> page = ListingCountEstimator.withEstimate(
+                new SliceImpl<>(List.of("e", "f"), PageRequest.of(2, 2), true), 3);
+
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void withEstimate_isExactOnTheLastPage() {
+        Page<String> page = ListingCountEstimator.withEstimate(
+                new SliceImpl<>(List.of("e"), PageRequest.of(2, 2), false), 40);
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.hasNext()).isFalse();
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,25 +14,44 @@ import com.doodle.domain.Calendar;
 import com.doodle.domain.Meeting;
 import com.doodle.domain.SlotStatus;
 import com.doodle.domain.TimeSlot;
+import com.doodle.dto.request.BookFirstAvailableRequest;
 import com.doodle.dto.request.ScheduleMeetingRequest;
 import com.doodle.dto.response.MeetingResponse;
+import com.doodle.event.MeetingChangedEvent;
+import com.doodle.event.SlotChangedEvent;
+import com.doodle.exception.ForbiddenException;
+import com.doodle.exception.ResourceNotFoundException;
 import com.doodle.exception.SlotConflictException;
 import com.doodle.mapper.MeetingMapper;
 import com.doodle.repository.CalendarRepository;
 import com.doodle.repository.MeetingRepository;
 import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.UserAgendaRepository;
 import com.doodle.repository.UserRepository;
+import com.doodle.repository.projection.BookedSlot;
+import com.doodle.repository.projection.MeetingParticipantRow;
+import com.doodle.repository.projection.MeetingSeekKey;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 class MeetingServiceTest {
@@ -48,9 +68,21 @@ class MeetingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserAgendaRepository agendaRepository;
+
+    @Mock
+    private SlotSeriesService seriesService;
+
+    @Mock
+    private ListingCountEstimator countEstimator;
+
     @Mock
     private MeetingMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private MeterRegistry meterRegistry;
 
@@ -61,7 +93,26 @@ class MeetingServiceTest {
 
     @BeforeEach
     void setUp() {
+        UserDirectoryCache userDirectory = new UserDirectoryCache(
+                calendarRepository,
+                userRepository,
+                new SimpleMeterRegistry(),
+                100,
+                Duration.ofMinutes(10)
+        );
         when(meterRegistry.counter("doodle.meetings.scheduled")).thenReturn(meetingsScheduledCounter);
+        lenient().when(mapper.toResponse(any(Meeting.class), any())).thenAnswer(invocation -> {
+            Meeting meeting = invocation.getArgument(0);
+            return new MeetingResponse(
+                    meeting.getId(),
+                    meeting.getSlotId(),
+                    meeting.getOrganizerId(),
+                    meeting.getTitle(),
+                    meeting.getDescription(),
+                    meeting.getCreatedAt(),
+                    invocation.getArgument(1)
+            );
+        });
         lenient().when(mapper.toResponse(any(Meeting.class))).thenAnswer(invocation -> {
             Meeting meeting = invocation.getArgument(0);
             return new MeetingResponse(
@@ -71,19 +122,22 @@ class MeetingServiceTest {
                     meeting.getTitle(),
                     meeting.getDescription(),
                     meeting.getCreatedAt(),
-                    meeting.getParticipants().stream()
-                            .map(user -> user.getId())
-                            .collect(Collectors.toSet())
+                    Set.copyOf(meeting.getParticipantIds())
             );
         });
 
         service = new MeetingService(
                 meetingRepository,
+                agendaRepository,
                 slotRepository,
-                calendarRepository,
+                userDirectory,
+                seriesService,
+                countEstimator,
                 userRepository,
                 mapper,
-                meterRegistry
+                eventPublisher,
+                meterRegistry,
+                3
         );
     }
 
@@ -103,15 +157,17 @@ class MeetingServiceTest {
         busySlot.setStatus(SlotStatus.BUSY);
 
         when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(meetingRepository.bookFreeSlot(any(), eq(slotId), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.empty());
         when(slotRepository.findById(slotId)).thenReturn(Optional.of(busySlot));
 
         ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Team Sync", "desc", Set.of());
 
-        assertThatThrownBy(() -> service.scheduleMeeting(userId, request))
+        assertThatThrownBy(() -> service.scheduleMeeting(userId, request, ConflictCheck.NONE))
                 .isInstanceOf(SlotConflictException.class)
                 .hasMessageContaining("already busy");
 
-        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -124,22 +180,72 @@ class MeetingServiceTest {
         calendar.setId(calendarId);
         calendar.setUserId(userId);
 
-        TimeSlot freeSlot = new TimeSlot();
-        freeSlot.setId(slotId);
-        freeSlot.setCalendarId(calendarId);
-        freeSlot.setStatus(SlotStatus.FREE);
-
         when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
-        when(slotRepository.findById(slotId)).thenReturn(Optional.of(freeSlot));
-        when(meetingRepository.existsBySlotId(slotId)).thenReturn(true);
+        when(meetingRepository.bookFreeSlot(any(), eq(slotId), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenThrow(new DuplicateKeyException("meetings_slot_id_key"));
 
         ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Team Sync", "desc", Set.of());
 
-        assertThatThrownBy(() -> service.scheduleMeeting(userId, request))
+        assertThatThrownBy(() -> service.scheduleMeeting(userId, request, ConflictCheck.NONE))
                 .isInstanceOf(SlotConflictException.class)
                 .hasMessageContaining("already converted");
 
-        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(meetingsScheduledCounter, never()).increment();
+    }
+
+    @Test
+    void scheduleMeeting_whenSlotOnAnotherCalendar_throwsForbidden() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        UUID slotId = UUID.randomUUID();
+
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+
+        TimeSlot otherSlot = new TimeSlot();
+        otherSlot.setId(slotId);
+        otherSlot.setCalendarId(UUID.randomUUID());
+        otherSlot.setStatus(SlotStatus.FREE);
+
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(meetingRepository.bookFreeSlot(any(), eq(slotId), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(slotRepository.findById(slotId)).thenReturn(Optional.of(otherSlot));
+
+        ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Team Sync", "desc", Set.of());
+
+        assertThatThrownBy(() -> service.scheduleMeeting(userId, request, ConflictCheck.NONE))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void scheduleMeeting_whenParticipantUnknown_throwsNotFound() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        UUID slotId = UUID.randomUUID();
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(meetingRepository.bookFreeSlot(any(), eq(slotId), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.of(new BookedSlot(
+                        calendarId,
+                        Instant.parse("2026-04-02T09:00:00Z"),
+                        Instant.parse("2026-04-02T10:00:00Z"),
+                        Instant.now(),
+                        Set.of(known)
+                )));
+
+        ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Team Sync", "desc", Set.of(known, unknown));
+
+        assertThatThrownBy(() -> service.scheduleMeeting(userId, request, ConflictCheck.NONE))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(unknown.toString());
     }
 
     @Test
@@ -152,7 +258,7 @@ class MeetingServiceTest {
         meeting.setId(meetingId);
         meeting.setOrganizerId(userId);
         meeting.setSlotId(slotId);
-        meeting.setParticipants(Set.of());
+        meeting.setParticipantIds(Set.of());
 
         TimeSlot slot = new TimeSlot();
         slot.setId(slotId);
@@ -169,32 +275,205 @@ class MeetingServiceTest {
     }
 
     @Test
-    void scheduleMeeting_onSuccess_setsSlotToBusyAndIncrementsCounter() {
+    void scheduleMeeting_onSuccess_booksInOneStatementAndIncrementsCounter() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        UUID slotId = UUID.randomUUID();
+        UUID participantId = UUID.randomUUID();
+
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(meetingRepository.bookFreeSlot(
+                any(), eq(slotId), eq(calendarId), eq(null), eq(userId), eq("Planning"), eq("desc"), eq(Set.of(participantId))))
+                .thenReturn(Optional.of(new BookedSlot(
+                        calendarId,
+                        Instant.parse("2026-04-02T09:00:00Z"),
+                        Instant.parse("2026-04-02T10:00:00Z"),
+                        Instant.now(),
+                        Set.of(participantId)
+                )));
+
+        ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, " Planning ", "desc", Set.of(participantId));
+        MeetingResponse response = service.scheduleMeeting(userId, request, ConflictCheck.NONE);
+
+        assertThat(response.slotId()).isEqualTo(slotId);
+        assertThat(response.participantIds()).containsExactly(participantId);
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        SlotChangedEvent slotEvent = (SlotChangedEvent) events.getAllValues().get(0);
+        assertThat(slotEvent.status()).isEqualTo(SlotStatus.BUSY);
+        assertThat(slotEvent.slotId()).isEqualTo(slotId);
+        MeetingChangedEvent meetingEvent = (MeetingChangedEvent) events.getAllValues().get(1);
+        assertThat(meetingEvent.type()).isEqualTo(MeetingChangedEvent.Type.SCHEDULED);
+        assertThat(meetingEvent.meetingId()).isEqualTo(response.id());
+        assertThat(meetingEvent.calendarId()).isEqualTo(calendarId);
+        verify(slotRepository, never()).findById(any());
+        verify(meetingsScheduledCounter).increment();
+    }
+
+    @Test
+    void scheduleMeeting_withReport_returnsBusyParticipantsFromOneQuery() {
         UUID userId = UUID.randomUUID();
         UUID calendarId = UUID.randomUUID();
         UUID slotId = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+        UUID free = UUID.randomUUID();
+        Instant start = Instant.parse("2026-04-02T09:00:00Z");
+        Instant end = Instant.parse("2026-04-02T10:00:00Z");
 
         Calendar calendar = new Calendar();
         calendar.setId(calendarId);
         calendar.setUserId(userId);
 
-        TimeSlot freeSlot = new TimeSlot();
-        freeSlot.setId(slotId);
-        freeSlot.setCalendarId(calendarId);
-        freeSlot.setStatus(SlotStatus.FREE);
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(meetingRepository.bookFreeSlot(any(), eq(slotId), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.of(new BookedSlot(calendarId, start, end, Instant.now(), Set.of(busy, free))));
+        when(agendaRepository.findBusyUsers(eq(Set.of(busy, free)), eq(start), eq(end), any()))
+                .thenReturn(List.of(busy));
+
+        ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Planning", "desc", Set.of(busy, free));
+        MeetingResponse response = service.scheduleMeeting(userId, request, ConflictCheck.REPORT);
+
+        assertThat(response.conflictingParticipantIds()).containsExactly(busy);
+        verify(meetingsScheduledCounter).increment();
+    }
+
+    @Test
+    void scheduleMeeting_withReject_failsBeforePublishingWhenAParticipantIsBusy() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        UUID slotId = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+        Instant start = Instant.parse("2026-04-02T09:00:00Z");
+        Instant end = Instant.parse("2026-04-02T10:00:00Z");
+
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
 
         when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
-        when(slotRepository.findById(slotId)).thenReturn(Optional.of(freeSlot));
-        when(meetingRepository.existsBySlotId(slotId)).thenReturn(false);
-        when(slotRepository.saveAndFlush(any(TimeSlot.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(meetingRepository.bookFreeSlot(any(), eq(slotId), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.of(new BookedSlot(calendarId, start, end, Instant.now(), Set.of(busy))));
+        when(agendaRepository.findBusyUsers(eq(Set.of(busy)), eq(start), eq(end), any())).thenReturn(List.of(busy));
 
-        ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Planning", "desc", Set.of());
-        MeetingResponse response = service.scheduleMeeting(userId, request);
+        ScheduleMeetingRequest request = new ScheduleMeetingRequest(slotId, "Planning", "desc", Set.of(busy));
 
-        assertThat(response.slotId()).isEqualTo(slotId);
-        assertThat(freeSlot.getStatus()).isEqualTo(SlotStatus.BUSY);
-        verify(slotRepository).saveAndFlush(eq(freeSlot));
+        assertThatThrownBy(() -> service.scheduleMeeting(userId, request, ConflictCheck.REJECT))
+                .isInstanceOf(SlotConflictException.class)
+                .hasMessageContaining(busy.toString());
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(meetingsScheduledCounter, never()).increment();
+    }
+
+    @Test
+    void bookFirstAvailable_skipsACandidateTakenConcurrently() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        UUID participantId = UUID.randomUUID();
+        UUID taken = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        Instant from = Instant.parse("2026-04-02T00:00:00Z");
+        Instant to = Instant.parse("2026-04-09T00:00:00Z");
+
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(userRepository.findExistingIds(Set.of(participantId))).thenReturn(Set.of(participantId));
+        when(slotRepository.findFreeSlotIdsClearFor(
+                calendarId, Set.of(userId, participantId), from, to, 1800, 3))
+                .thenReturn(List.of(taken, next));
+        when(meetingRepository.bookFreeSlot(any(), eq(taken), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(meetingRepository.bookFreeSlot(any(), eq(next), eq(calendarId), any(), eq(userId), any(), any(), any()))
+                .thenReturn(Optional.of(new BookedSlot(
+                        calendarId,
+                        Instant.parse("2026-04-03T09:00:00Z"),
+                        Instant.parse("2026-04-03T09:30:00Z"),
+                        Instant.now(),
+                        Set.of(participantId)
+                )));
+
+        MeetingResponse response = service.bookFirstAvailable(userId, new BookFirstAvailableRequest(
+                "Sync", null, Set.of(participantId), from, to, 30));
+
+        assertThat(response.slotId()).isEqualTo(next);
         verify(meetingsScheduledCounter).increment();
     }
+
+    @Test
+    void bookFirstAvailable_whenNoCandidateBooks_throwsConflict() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        Instant from = Instant.parse("2026-04-02T00:00:00Z");
+        Instant to = Instant.parse("2026-04-09T00:00:00Z");
+
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+        when(slotRepository.findFreeSlotIdsClearFor(calendarId, Set.of(userId), from, to, 1800, 3))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.bookFirstAvailable(userId, new BookFirstAvailableRequest(
+                "Sync", null, Set.of(), from, to, 30)))
+                .isInstanceOf(SlotConflictException.class);
+
+        verify(meetingRepository, never()).bookFreeSlot(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getMeetings_readsTheAgendaAndKeepsItsOrder() {
+        UUID userId = UUID.randomUUID();
+        Instant from = Instant.parse("2026-04-01T00:00:00Z");
+        Instant to = Instant.parse("2026-04-02T00:00:00Z");
+        Meeting early = meeting(userId);
+        Meeting late = meeting(userId);
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(agendaRepository.findSliceInRange(userId, from, to, pageable)).thenReturn(new SliceImpl<>(List.of(
+                new MeetingSeekKey(early.getId(), Instant.parse("2026-04-01T09:00:00Z")),
+                new MeetingSeekKey(late.getId(), Instant.parse("2026-04-01T11:00:00Z"))
+        ), pageable, true));
+        UUID participant = UUID.randomUUID();
+        when(meetingRepository.findAllById(List.of(early.getId(), late.getId()))).thenReturn(List.of(late, early));
+        when(meetingRepository.findParticipantIds(List.of(early.getId(), late.getId())))
+                .thenReturn(List.of(participantRow(late.getId(), participant)));
+
+        Slice<MeetingResponse> result = service.getMeetings(userId, from, to, pageable, TotalsMode.NONE);
+
+        assertThat(result.getContent()).extracting(MeetingResponse::id).containsExactly(early.getId(), late.getId());
+        assertThat(result.getContent().get(0).participantIds()).isEmpty();
+        assertThat(result.getContent().get(1).participantIds()).containsExactly(participant);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result).isNotInstanceOf(Page.class);
+    }
+
+    private MeetingParticipantRow participantRow(UUID meetingId, UUID userId) {
+        return new MeetingParticipantRow() {
+            @Override
+            public UUID getMeetingId() {
+                return meetingId;
+            }
+
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+        };
+    }
+
+    private Meeting meeting(UUID organizerId) {
+        Meeting meeting = new Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setSlotId(UUID.randomUUID());
+        meeting.setOrganizerId(organizerId);
+        meeting.setParticipantIds(Set.of());
+        return meeting;
+    }
 }
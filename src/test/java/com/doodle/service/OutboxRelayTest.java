@@ -0,0 +1,85 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.doodle.event.OutboxMessage;
+import com.doodle.event.OutboxSink;
+import com.doodle.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OutboxRelayTest {
+
+    private final UUID calendarA = UUID.randomUUID();
+    private final UUID calendarB = UUID.randomUUID();
+
+    @Test
+    void inOrder_stopsACalendarAtTheFirstMessageHeldElsewhere() {
+        List<OutboxMessage> locked = List.of(
+                message(1, calendarA),
+                message(2, calendarB),
+                message(4, calendarA),
+                message(5, calendarB)
+        );
+
+        List<OutboxMessage> ready = OutboxRelay.inOrder(locked, Map.of(calendarA, 3L));
+
+        assertThat(ready).extracting(OutboxMessage::id).containsExactly(1L, 2L, 5L);
+    }
+
+    @Test
+    void relayBatch_deletesOnlyWhatTheSinksAccepted() {
+        OutboxRepository repository = mock(OutboxRepository.class);
+        OutboxSink sink = mock(OutboxSink.class);
+        List<OutboxMessage> locked = List.of(message(1, calendarA), message(2, calendarA));
+        when(repository.lockOldest(10)).thenReturn(locked);
+        when(repository.findOldestOtherIds(List.of(calendarA), List.of(1L, 2L))).thenReturn(Map.of());
+
+        int delivered = relay(repository, sink).relayBatch();
+
+        assertThat(delivered).isEqualTo(2);
+        verify(sink).deliver(locked);
+        verify(repository).delete(List.of(1L, 2L));
+    }
+
+    @Test
+    void relayBatch_whenASinkFails_leavesTheBatchInTheOutbox() {
+        OutboxRepository repository = mock(OutboxRepository.class);
+        OutboxSink sink = mock(OutboxSink.class);
+        List<OutboxMessage> locked = List.of(message(1, calendarA));
+        when(repository.lockOldest(10)).thenReturn(locked);
+        when(repository.findOldestOtherIds(any(), any())).thenReturn(Map.of());
+        doThrow(new IllegalStateException("sink down")).when(sink).deliver(locked);
+
+        assertThatThrownBy(() -> relay(repository, sink).relayBatch()).isInstanceOf(IllegalStateException.class);
+
+        verify(repository, never()).delete(any());
+    }
+
+    private OutboxRelay relay(OutboxRepository repository, OutboxSink sink) {
+        return new OutboxRelay(
+                repository,
+                List.of(sink),
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(),
+                true,
+                10
+        );
+    }
+
+    private OutboxMessage message(long id, UUID calendarId) {
+        return new OutboxMessage(id, calendarId, "slot.saved", "{}", Instant.parse("2026-04-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doodle.domain.RecurrenceFrequency;
+import com.doodle.domain.SlotSeries;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceExpanderTest {
+
+    @Test
+    void expand_weeklySeries_returnsOnlyOccurrencesInsideTheWindow() {
+        SlotSeries series = weekly(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), 1);
+
+        List<SeriesOccurrence> occurrences = RecurrenceExpander.expand(
+                series, Instant.parse("2026-03-03T00:00:00Z"), Instant.parse("2026-03-10T00:00:00Z"), Set.of());
+
+        assertThat(occurrences).extracting(SeriesOccurrence::startTime).containsExactly(
+                Instant.parse("2026-03-04T09:00:00Z"),
+                Instant.parse("2026-03-09T09:00:00Z")
+        );
+        assertThat(occurrences.getFirst().endTime()).isEqualTo(Instant.parse("2026-03-04T10:00:00Z"));
+    }
+
+    @Test
+    void expand_everyOtherWeek_skipsAlternateWeeksAndExceptions() {
+        SlotSeries series = weekly(Set.of(DayOfWeek.MONDAY), 2);
+        series.setStartDate(LocalDate.parse("2026-03-02"));
+
+        List<SeriesOccurrence> occurrences = RecurrenceExpander.expand(
+                series,
+                Instant.parse("2026-03-01T00:00:00Z"),
+                Instant.parse("2026-04-01T00:00:00Z"),
+                Set.of(Instant.parse("2026-03-16T09:00:00Z"))
+        );
+
+        assertThat(occurrences).extracting(SeriesOccurrence::startTime).containsExactly(
+                Instant.parse("2026-03-02T09:00:00Z"),
+                Instant.parse("2026-03-30T09:00:00Z")
+        );
+    }
+
+    @Test
+    void expand_keepsLocalTimeAcrossDaylightSavingChange() {
+        SlotSeries series = weekly(Set.of(DayOfWeek.FRIDAY), 1);
+        series.setTimeZone("Europe/Berlin");
+
+        List<SeriesOccurrence> occurrences = RecurrenceExpander.expand(
+                series, Instant.parse("2026-03-20T00:00:00Z"), Instant.parse("2026-04-01T00:00:00Z"), Set.of());
+
+        assertThat(occurrences).extracting(SeriesOccurrence::startTime).containsExactly(
+                Instant.parse("2026-03-20T08:00:00Z"),
+                Instant.parse("2026-03-27T08:00:00Z")
+        );
+        assertThat(RecurrenceExpander.isOccurrence(series, Instant.parse("2026-04-03T07:00:00Z"))).isTrue();
+        assertThat(RecurrenceExpander.isOccurrence(series, Instant.parse("2026-04-03T08:00:00Z"))).isFalse();
+    }
+
+    @Test
+    void expand_dailySeries_stopsAtUntilDate() {
+        SlotSeries series = weekly(Set.of(), 1);
+        series.setFrequency(RecurrenceFrequency.DAILY);
+        series.setUntilDate(LocalDate.parse("2026-03-04"));
+
+        List<SeriesOccurrence> occurrences = RecurrenceExpander.expand(
+                series, Instant.parse("2026-03-01T00:00:00Z"), Instant.parse("2026-04-01T00:00:00Z"), Set.of());
+
+        assertThat(occurrences).hasSize(4);
+    }
+
+    private static SlotSeries weekly(Set<DayOfWeek> days, int interval) {
+        SlotSeries series = new SlotSeries();
+        series.setId(UUID.randomUUID());
+        series.setCalendarId(UUID.randomUUID());
+        series.setFrequency(RecurrenceFrequency.WEEKLY);
+        series.setRepeatInterval(interval);
+        series.setDaysOfWeek(days);
+        series.setStartDate(LocalDate.parse("2026-03-01"));
+        series.setUntilDate(LocalDate.parse("2026-12-31"));
+        series.setStartTime(LocalTime.parse("09:00"));
+        series.setDurationMinutes(60);
+        series.setTimeZone("UTC");
+        return series;
+    }
+}
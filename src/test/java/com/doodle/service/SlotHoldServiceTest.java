@@ -0,0 +1,212 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.SlotStatus;
+import com.doodle.domain.TimeSlot;
+import com.doodle.dto.response.SlotHoldResponse;
+import com.doodle.event.SlotChangedEvent;
+import com.doodle.exception.SlotConflictException;
+import com.doodle.repository.CalendarRepository;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.UserRepository;
+import com.doodle.repository.projection.ReleasedHold;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SlotHoldServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-01T09:00:00Z");
+
+    @Mock
+    private TimeSlotRepository slotRepository;
+
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final UUID userId = UUID.randomUUID();
+    private final UUID calendarId = UUID.randomUUID();
+    private SlotHoldService service;
+
+    @BeforeEach
+    void setUp() {
+        UserDirectoryCache userDirectory = new UserDirectoryCache(
+                calendarRepository,
+                userRepository,
+                new SimpleMeterRegistry(),
+                100,
+                Duration.ofMinutes(10)
+        );
+        service = new SlotHoldService(
+                slotRepository,
+                userDirectory,
+                eventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(),
+                clock,
+                Duration.ofMinutes(15),
+                Duration.ofSeconds(1),
+                500
+        );
+    }
+
+    @Test
+    void hold_marksTheSlotHeldAndReleasesItOnTheTickAfterExpiry() {
+        TimeSlot slot = ownedSlot(SlotStatus.FREE);
+        when(slotRepository.save(slot)).thenReturn(slot);
+
+        SlotHoldResponse response = service.hold(userId, slot.getId(), Duration.ofSeconds(30));
+
+        assertThat(response.expiresAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(response.holdToken()).isNotNull().isEqualTo(slot.getHoldToken());
+        assertThat(slot.getStatus()).isEqualTo(SlotStatus.HOLD);
+        assertThat(slot.getHoldExpiresAt()).isEqualTo(NOW.plusSeconds(30));
+
+        clock.now = NOW.plusSeconds(29);
+        service.expireDue();
+        verify(slotRepository, never()).releaseExpiredHolds(anyCollection(), any());
+
+        Instant expiry = NOW.plusSeconds(30);
+        clock.now = expiry;
+        when(slotRepository.releaseExpiredHolds(List.of(slot.getId()), expiry)).thenReturn(List.of(
+                new ReleasedHold(slot.getId(), calendarId, slot.getStartTime(), slot.getEndTime())));
+        service.expireDue();
+
+        ArgumentCaptor<SlotChangedEvent> events = ArgumentCaptor.forClass(SlotChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues().get(0).status()).isEqualTo(SlotStatus.HOLD);
+        assertThat(events.getAllValues().get(1).status()).isEqualTo(SlotStatus.FREE);
+    }
+
+    @Test
+    void hold_onABusySlot_throwsConflict() {
+        TimeSlot slot = ownedSlot(SlotStatus.BUSY);
+
+        assertThatThrownBy(() -> service.hold(userId, slot.getId(), Duration.ofSeconds(30)))
+                .isInstanceOf(SlotConflictException.class);
+    }
+
+    @Test
+    void hold_onASlotHeldByAnotherToken_throwsConflictUntilItExpires() {
+        TimeSlot slot = ownedSlot(SlotStatus.HOLD);
+        UUID token = UUID.randomUUID();
+        slot.setHoldToken(token);
+        slot.setHoldExpiresAt(NOW.plusSeconds(10));
+
+        assertThatThrownBy(() -> service.hold(userId, slot.getId(), Duration.ofSeconds(30)))
+                .isInstanceOf(SlotConflictException.class)
+                .hasMessageContaining("already held");
+
+        clock.now = NOW.plusSeconds(10);
+        when(slotRepository.save(slot)).thenReturn(slot);
+        SlotHoldResponse response = service.hold(userId, slot.getId(), Duration.ofSeconds(30));
+        assertThat(response.holdToken()).isNotEqualTo(token);
+    }
+
+    @Test
+    void release_withAnotherToken_throwsConflict() {
+        TimeSlot slot = ownedSlot(SlotStatus.HOLD);
+        UUID token = UUID.randomUUID();
+        slot.setHoldToken(token);
+        slot.setHoldExpiresAt(NOW.plusSeconds(10));
+
+        assertThatThrownBy(() -> service.release(userId, slot.getId(), UUID.randomUUID()))
+                .isInstanceOf(SlotConflictException.class);
+
+        when(slotRepository.save(slot)).thenReturn(slot);
+        service.release(userId, slot.getId(), token);
+        assertThat(slot.getStatus()).isEqualTo(SlotStatus.FREE);
+        assertThat(slot.getHoldToken()).isNull();
+    }
+
+    @Test
+    void hold_longerThanTheMaximum_isRejected() {
+        assertThatThrownBy(() -> service.hold(userId, UUID.randomUUID(), Duration.ofMinutes(16)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sweepExpired_drainsInBatchesUntilAShortOne() {
+        List<ReleasedHold> fullBatch = Collections.nCopies(500,
+                new ReleasedHold(UUID.randomUUID(), calendarId, NOW, NOW.plusSeconds(900)));
+        when(slotRepository.releaseExpiredHolds(NOW, 500)).thenReturn(fullBatch).thenReturn(List.of());
+
+        service.sweepExpired();
+
+        verify(slotRepository, times(2)).releaseExpiredHolds(NOW, 500);
+    }
+
+    private TimeSlot ownedSlot(SlotStatus status) {
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+
+        TimeSlot slot = new TimeSlot();
+        slot.setId(UUID.randomUUID());
+        slot.setCalendarId(calendarId);
+        slot.setStartTime(NOW.plusSeconds(3600));
+        slot.setEndTime(NOW.plusSeconds(7200));
+        slot.setStatus(status);
+        when(slotRepository.findById(slot.getId())).thenReturn(Optional.of(slot));
+        return slot;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
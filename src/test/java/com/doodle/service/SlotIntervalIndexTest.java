@@ -0,0 +1,120 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.doodle.domain.SlotStatus;
+import com.doodle.dto.response.SlotWindow;
+import com.doodle.event.SlotChangedEvent;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.projection.SlotInterval;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SlotIntervalIndexTest {
+
+    @Mock
+    private TimeSlotRepository slotRepository;
+
+    @Test
+    void forEachInRange_returnsSlotsOverlappingTheRange() {
+        UUID calendarId = UUID.randomUUID();
+        when(slotRepository.findIntervalsByCalendarId(calendarId)).thenReturn(List.of(
+                interval("08:00", "09:00", SlotStatus.FREE),
+                interval("09:00", "10:00", SlotStatus.BUSY),
+                interval("11:00", "12:00", SlotStatus.FREE)
+        ));
+        SlotIntervalIndex index = index(1_000);
+
+        List<SlotWindow> windows = windows(index, calendarId, at("09:30"), at("11:30"));
+
+        assertThat(windows).containsExactly(
+                new SlotWindow(at("09:00"), at("10:00"), SlotStatus.BUSY),
+                new SlotWindow(at("11:00"), at("12:00"), SlotStatus.FREE)
+        );
+    }
+
+    @Test
+    void onSlotChanged_appliesWritesToLoadedCalendar() {
+        UUID calendarId = UUID.randomUUID();
+        SlotInterval existing = interval("09:00", "10:00", SlotStatus.FREE);
+        when(slotRepository.findIntervalsByCalendarId(calendarId)).thenReturn(List.of(existing));
+        SlotIntervalIndex index = index(1_000);
+        windows(index, calendarId, at("00:00"), at("00:15"));
+
+        UUID added = UUID.randomUUID();
+        index.onSlotChanged(new SlotChangedEvent(
+                SlotChangedEvent.Type.SAVED, calendarId, added, at("07:00"), at("08:00"), SlotStatus.FREE));
+        index.onSlotChanged(new SlotChangedEvent(
+                SlotChangedEvent.Type.SAVED, calendarId, existing.id(), at("09:00"), at("10:00"), SlotStatus.BUSY));
+
+        assertThat(windows(index, calendarId, at("00:00"), at("23:00"))).containsExactly(
+                new SlotWindow(at("07:00"), at("08:00"), SlotStatus.FREE),
+                new SlotWindow(at("09:00"), at("10:00"), SlotStatus.BUSY)
+        );
+
+        index.onSlotChanged(new SlotChangedEvent(
+                SlotChangedEvent.Type.DELETED, calendarId, added, at("07:00"), at("08:00"), SlotStatus.FREE));
+
+        assertThat(windows(index, calendarId, at("00:00"), at("23:00"))).hasSize(1);
+        verify(slotRepository, times(1)).findIntervalsByCalendarId(calendarId);
+    }
+
+    @Test
+    void install_evictsLeastRecentlyUsedCalendarWhenOverCapacity() {
+        UUID cold = UUID.randomUUID();
+        UUID warm = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        when(slotRepository.findIntervalsByCalendarId(cold)).thenReturn(List.of(interval("09:00", "10:00", SlotStatus.FREE)));
+        when(slotRepository.findIntervalsByCalendarId(warm)).thenReturn(List.of(interval("09:00", "10:00", SlotStatus.FREE)));
+        when(slotRepository.findIntervalsByCalendarId(fresh)).thenReturn(List.of(interval("09:00", "10:00", SlotStatus.FREE)));
+        SlotIntervalIndex index = index(2);
+
+        windows(index, cold, at("00:00"), at("01:00"));
+        windows(index, warm, at("00:00"), at("01:00"));
+        windows(index, cold, at("00:00"), at("01:00"));
+        windows(index, fresh, at("00:00"), at("01:00"));
+        windows(index, cold, at("00:00"), at("01:00"));
+        windows(index, warm, at("00:00"), at("01:00"));
+
+        verify(slotRepository, times(1)).findIntervalsByCalendarId(cold);
+        verify(slotRepository, times(2)).findIntervalsByCalendarId(warm);
+    }
+
+    @Test
+    void microsConversion_roundTripsPostgresPrecision() {
+        Instant instant = Instant.parse("2026-04-14T09:00:00.123456Z");
+
+        assertThat(SlotIntervalIndex.toInstant(SlotIntervalIndex.toMicros(instant))).isEqualTo(instant);
+    }
+
+    private SlotIntervalIndex index(long maxSlots) {
+        return new SlotIntervalIndex(slotRepository, new SimpleMeterRegistry(), true, maxSlots, Duration.ofMinutes(5));
+    }
+
+    private static List<SlotWindow> windows(SlotIntervalIndex index, UUID calendarId, Instant from, Instant to) {
+        List<SlotWindow> windows = new ArrayList<>();
+        index.forEachInRange(calendarId, from, to, (start, end, status) -> windows.add(new SlotWindow(
+                SlotIntervalIndex.toInstant(start), SlotIntervalIndex.toInstant(end), status)));
+        return windows;
+    }
+
+    private static SlotInterval interval(String start, String end, SlotStatus status) {
+        return new SlotInterval(UUID.randomUUID(), at(start), at(end), status);
+    }
+
+    private static Instant at(String time) {
+        return Instant.parse("2026-04-14T" + time + ":00Z");
+    }
+}
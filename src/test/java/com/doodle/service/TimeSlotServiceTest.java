@@ -12,24 +12,41 @@ import static org.mockito.Mockito.when;
 import com.doodle.domain.Calendar;
 import com.doodle.domain.SlotStatus;
 import com.doodle.domain.TimeSlot;
+import com.doodle.dto.request.BulkCreateSlotsRequest;
 import com.doodle.dto.request.CreateSlotRequest;
 import com.doodle.dto.request.UpdateSlotRequest;
+import com.doodle.dto.request.WeeklyRecurrenceRequest;
+import com.doodle.dto.response.BulkCreateSlotsResponse;
+import com.doodle.dto.response.SlotWindow;
 import com.doodle.dto.response.TimeSlotResponse;
 import com.doodle.exception.ForbiddenException;
 import com.doodle.exception.SlotConflictException;
 import com.doodle.mapper.TimeSlotMapper;
 import com.doodle.repository.CalendarRepository;
 import com.doodle.repository.TimeSlotRepository;
+import com.doodle.repository.UserAgendaRepository;
+import com.doodle.repository.UserRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class TimeSlotServiceTest {
@@ -40,9 +57,24 @@ class TimeSlotServiceTest {
     @Mock
     private CalendarRepository calendarRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserAgendaRepository agendaRepository;
+
+    @Mock
+    private SlotSeriesService seriesService;
+
+    @Mock
+    private ListingCountEstimator countEstimator;
+
     @Mock
     private TimeSlotMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private MeterRegistry meterRegistry;
 
@@ -53,6 +85,13 @@ class TimeSlotServiceTest {
 
     @BeforeEach
     void setUp() {
+        UserDirectoryCache userDirectory = new UserDirectoryCache(
+                calendarRepository,
+                userRepository,
+                new SimpleMeterRegistry(),
+                100,
+                Duration.ofMinutes(10)
+        );
         when(meterRegistry.counter("doodle.slots.created")).thenReturn(slotsCreatedCounter);
         lenient().when(mapper.toResponse(any(TimeSlot.class))).thenAnswer(invocation -> {
             TimeSlot slot = invocation.getArgument(0);
@@ -67,7 +106,17 @@ class TimeSlotServiceTest {
             );
         });
 
-        service = new TimeSlotService(slotRepository, calendarRepository, mapper, meterRegistry);
+        service = new TimeSlotService(
+                slotRepository,
+                agendaRepository,
+                userDirectory,
+                seriesService,
+                countEstimator,
+                mapper,
+                eventPublisher,
+                meterRegistry,
+                1000
+        );
     }
 
     @Test
@@ -82,13 +131,157 @@ class TimeSlotServiceTest {
         calendar.setUserId(userId);
 
         when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
-        when(slotRepository.existsOverlapping(calendarId, start, end, null)).thenReturn(true);
+        when(slotRepository.saveAndFlush(any(TimeSlot.class))).thenThrow(new DataIntegrityViolationException(
+                "conflicting key value violates exclusion constraint",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")
+        ));
 
         assertThatThrownBy(() -> service.createSlot(userId, new CreateSlotRequest(start, end)))
                 .isInstanceOf(SlotConflictException.class)
                 .hasMessageContaining("overlaps");
 
-        verify(slotRepository, never()).save(any(TimeSlot.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void createSlot_whenOtherIntegrityViolation_rethrows() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        stubCalendar(userId, calendarId);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "violates foreign key constraint",
+                new SQLException("violates foreign key constraint", "23503")
+        );
+        when(slotRepository.saveAndFlush(any(TimeSlot.class))).thenThrow(violation);
+
+        assertThatThrownBy(() -> service.createSlot(userId, new CreateSlotRequest(
+                Instant.parse("2026-04-01T09:00:00Z"), Instant.parse("2026-04-01T10:00:00Z"))))
+                .isSameAs(violation);
+    }
+
+    @Test
+    void createSlots_reportsPerItemConflictsAndSavesTheRest() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        stubCalendar(userId, calendarId);
+
+        when(slotRepository.findWindowsByCalendarAndRange(
+                calendarId, Instant.parse("2026-04-01T09:00:00Z"), Instant.parse("2026-04-01T13:00:00Z")))
+                .thenReturn(List.of(new SlotWindow(
+                        Instant.parse("2026-04-01T10:00:00Z"),
+                        Instant.parse("2026-04-01T11:00:00Z"),
+                        SlotStatus.FREE
+                )));
+        when(slotRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateSlotsResponse response = service.createSlots(userId, new BulkCreateSlotsRequest(List.of(
+                new CreateSlotRequest(Instant.parse("2026-04-01T12:00:00Z"), Instant.parse("2026-04-01T13:00:00Z")),
+                new CreateSlotRequest(Instant.parse("2026-04-01T09:00:00Z"), Instant.parse("2026-04-01T09:30:00Z")),
+                new CreateSlotRequest(Instant.parse("2026-04-01T10:30:00Z"), Instant.parse("2026-04-01T11:30:00Z")),
+                new CreateSlotRequest(Instant.parse("2026-04-01T09:15:00Z"), Instant.parse("2026-04-01T09:45:00Z"))
+        ), null));
+
+        assertThat(response.created()).extracting(TimeSlotResponse::startTime).containsExactly(
+                Instant.parse("2026-04-01T09:00:00Z"),
+                Instant.parse("2026-04-01T12:00:00Z")
+        );
+        assertThat(response.conflicts()).extracting(conflict -> conflict.index()).containsExactly(2, 3);
+        assertThat(response.conflicts().get(0).reason()).contains("existing slot");
+        assertThat(response.conflicts().get(1).reason()).contains("this request");
+        verify(slotsCreatedCounter).increment(2);
+    }
+
+    @Test
+    void createSlots_expandsWeeklyRecurrenceInTheGivenZone() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        stubCalendar(userId, calendarId);
+        when(slotRepository.findWindowsByCalendarAndRange(eq(calendarId), any(), any())).thenReturn(List.of());
+        when(slotRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateSlotsResponse response = service.createSlots(userId, new BulkCreateSlotsRequest(null,
+                new WeeklyRecurrenceRequest(
+                        LocalDate.parse("2026-03-23"),
+                        LocalDate.parse("2026-04-03"),
+                        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                        LocalTime.parse("09:00"),
+                        LocalTime.parse("10:00"),
+                        "Europe/Berlin"
+                )));
+
+        assertThat(response.conflicts()).isEmpty();
+        assertThat(response.created()).extracting(TimeSlotResponse::startTime).containsExactly(
+                Instant.parse("2026-03-23T08:00:00Z"),
+                Instant.parse("2026-03-27T08:00:00Z"),
+                Instant.parse("2026-03-30T07:00:00Z"),
+                Instant.parse("2026-04-03T07:00:00Z")
+        );
+    }
+
+    @Test
+    void getSlotsAfter_mergesOccurrencesAndSeeksFromTheCursor() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        UUID seriesId = UUID.randomUUID();
+        stubCalendar(userId, calendarId);
+        Instant from = Instant.parse("2026-04-01T00:00:00Z");
+        Instant to = Instant.parse("2026-04-02T00:00:00Z");
+        TimeSlotResponse nine = slotResponse(calendarId, "2026-04-01T09:00:00Z");
+        TimeSlotResponse eleven = slotResponse(calendarId, "2026-04-01T11:00:00Z");
+        when(slotRepository.findFirstResponsesByCalendarAndRange(calendarId, from, to, Limit.of(3)))
+                .thenReturn(List.of(nine, eleven));
+        when(seriesService.occurrences(List.of(calendarId), from, to)).thenReturn(List.of(new SeriesOccurrence(
+                seriesId, calendarId, Instant.parse("2026-04-01T10:00:00Z"), Instant.parse("2026-04-01T10:30:00Z"))));
+
+        KeysetPage<TimeSlotResponse> first = service.getSlotsAfter(userId, from, to, null, 2);
+
+        assertThat(first.content()).extracting(TimeSlotResponse::startTime).containsExactly(
+                Instant.parse("2026-04-01T09:00:00Z"),
+                Instant.parse("2026-04-01T10:00:00Z")
+        );
+        assertThat(first.hasNext()).isTrue();
+        KeysetCursor cursor = KeysetCursor.decode(first.nextCursor());
+        assertThat(cursor).isEqualTo(new KeysetCursor(Instant.parse("2026-04-01T10:00:00Z"), seriesId));
+
+        when(slotRepository.findResponsesByCalendarAndRangeAfter(
+                calendarId, from, to, cursor.startTime(), cursor.id(), Limit.of(3)))
+                .thenReturn(List.of(eleven));
+
+        KeysetPage<TimeSlotResponse> second = service.getSlotsAfter(userId, from, to, first.nextCursor(), 2);
+
+        assertThat(second.content()).containsExactly(eleven);
+        assertThat(second.hasNext()).isFalse();
+        verify(seriesService).occurrences(List.of(calendarId), cursor.startTime(), to);
+        verify(slotRepository, never()).findResponsesByCalendarAndRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void getSlotsAfter_expandsSeriesOnlyUpToTheFirstSlotPastThePage() {
+        UUID userId = UUID.randomUUID();
+        UUID calendarId = UUID.randomUUID();
+        stubCalendar(userId, calendarId);
+        Instant from = Instant.parse("2026-04-01T00:00:00Z");
+        Instant to = Instant.parse("2027-04-01T00:00:00Z");
+        TimeSlotResponse nine = slotResponse(calendarId, "2026-04-01T09:00:00Z");
+        TimeSlotResponse ten = slotResponse(calendarId, "2026-04-01T10:00:00Z");
+        when(slotRepository.findFirstResponsesByCalendarAndRange(calendarId, from, to, Limit.of(2)))
+                .thenReturn(List.of(nine, ten));
+
+        KeysetPage<TimeSlotResponse> page = service.getSlotsAfter(userId, from, to, null, 1);
+
+        assertThat(page.content()).containsExactly(nine);
+        verify(seriesService).occurrences(List.of(calendarId), from, Instant.parse("2026-04-01T10:00:00Z"));
+    }
+
+    @Test
+    void getSlotsAfter_whenCursorIsMalformed_throwsBadRequest() {
+        UUID userId = UUID.randomUUID();
+        stubCalendar(userId, UUID.randomUUID());
+
+        assertThatThrownBy(() -> service.getSlotsAfter(
+                userId, Instant.parse("2026-04-01T00:00:00Z"), Instant.parse("2026-04-02T00:00:00Z"), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
     }
 
     @Test
@@ -166,4 +359,17 @@ class TimeSlotServiceTest {
         assertThat(slot.getStatus()).isEqualTo(SlotStatus.BUSY);
         verify(slotRepository).save(eq(slot));
     }
+
+    private TimeSlotResponse slotResponse(UUID calendarId, String start) {
+        Instant startTime = Instant.parse(start);
+        return new TimeSlotResponse(
+                UUID.randomUUID(), calendarId, startTime, startTime.plusSeconds(3600), SlotStatus.FREE, null, null);
+    }
+
+    private void stubCalendar(UUID userId, UUID calendarId) {
+        Calendar calendar = new Calendar();
+        calendar.setId(calendarId);
+        calendar.setUserId(userId);
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+    }
 }
@@ -0,0 +1,84 @@
+package com.doodle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.User;
+import com.doodle.exception.ResourceNotFoundException;
+import com.doodle.repository.CalendarRepository;
+import com.doodle.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryCacheTest {
+
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDirectoryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDirectoryCache(calendarRepository, userRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void requireCalendarId_queriesRepositoryOncePerUser() {
+        UUID userId = UUID.randomUUID();
+        Calendar calendar = new Calendar();
+        calendar.setId(UUID.randomUUID());
+        calendar.setUserId(userId);
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.of(calendar));
+
+        assertThat(cache.requireCalendarId(userId)).isEqualTo(calendar.getId());
+        assertThat(cache.requireCalendarId(userId)).isEqualTo(calendar.getId());
+
+        verify(calendarRepository, times(1)).findByUserId(userId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "doodle.calendarsByUser").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void requireCalendarId_whenMissing_throwsAndDoesNotCacheMiss() {
+        UUID userId = UUID.randomUUID();
+        when(calendarRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> cache.requireCalendarId(userId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Calendar not found");
+        assertThat(cache.findCalendarId(userId)).isEmpty();
+
+        verify(calendarRepository, times(2)).findByUserId(userId);
+    }
+
+    @Test
+    void findUserId_cachesEmailLookups() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("cached@example.com");
+        when(userRepository.findByEmail("cached@example.com")).thenReturn(Optional.of(user));
+
+        assertThat(cache.findUserId("cached@example.com")).contains(user.getId());
+        assertThat(cache.findUserId("cached@example.com")).contains(user.getId());
+
+        verify(userRepository, times(1)).findByEmail("cached@example.com");
+    }
+}